@@ -11,6 +11,7 @@ import { SubcategoryDto } from './subcategoryDto';
 
 export interface CategoryDto {
     id?: number;
+    version?: number;
     createdBy?: string;
     lastModifiedBy?: string;
     createdDate?: string;
@@ -13,6 +13,7 @@ import { ItemTagDto } from './itemTagDto';
 
 export interface ItemDto { 
     id?: number;
+    version?: number;
     createdBy?: string;
     lastModifiedBy?: string;
     createdDate?: string;
@@ -22,6 +23,8 @@ export interface ItemDto {
     price?: number;
     photoUrl?: string;
     tag?: ItemTagDto;
+    categoryId?: number;
+    subcategoryId?: string;
     category?: CategoryDto;
 }
 
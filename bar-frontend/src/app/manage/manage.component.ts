@@ -115,6 +115,10 @@ export class ManageComponent implements OnInit {
       iconUrl: value.iconUrl?.trim() || undefined
     };
 
+    if (this.editingCategoryId != null) {
+      payload.version = this.categories.find(category => category.id === this.editingCategoryId)?.version;
+    }
+
     this.isSavingCategory = true;
     const request$ = this.editingCategoryId != null
       ? this.categoryService.update1(this.editingCategoryId, payload)
@@ -156,7 +160,7 @@ export class ManageComponent implements OnInit {
       description: value.description?.trim() || undefined,
       price: isNaN(price) ? undefined : price,
       photoUrl: value.photoUrl?.trim() || undefined,
-      category: value.categoryId ? { id: Number(value.categoryId) } as CategoryDto : undefined,
+      categoryId: value.categoryId ? Number(value.categoryId) : undefined,
       tag: value.tagLabel?.trim()
         ? { label: value.tagLabel.trim(), cssClass: value.tagCssClass?.trim() || undefined }
         : undefined
@@ -164,6 +168,8 @@ export class ManageComponent implements OnInit {
 
     if (this.editingItemId != null) {
       payload.id = this.editingItemId;
+      payload.subcategoryId = this.itemIndex.get(this.editingItemId)?.subcategoryId;
+      payload.version = this.itemIndex.get(this.editingItemId)?.version;
     }
 
     this.isSavingItem = true;
@@ -395,7 +401,7 @@ export class ManageComponent implements OnInit {
       description: item.description ?? '',
       price: item.price ?? null,
       photoUrl: item.photoUrl ?? '',
-      categoryId: item.category?.id != null ? String(item.category.id) : '',
+      categoryId: item.categoryId != null ? String(item.categoryId) : '',
       tagLabel: item.tag?.label ?? '',
       tagCssClass: item.tag?.cssClass ?? ''
     });
@@ -475,7 +481,7 @@ export class ManageComponent implements OnInit {
     if (isNaN(categoryId)) {
       return [];
     }
-    return this.menuItems.filter(item => item.category?.id === categoryId);
+    return this.menuItems.filter(item => item.categoryId === categoryId);
   }
 
   subcategoryItems(subcategory: SubcategoryDto | null | undefined): ItemDto[] {
@@ -502,7 +508,7 @@ export class ManageComponent implements OnInit {
 
     return this.menuItems.filter(item => {
       const itemId = item.id;
-      return item.category?.id === category.id && (itemId == null || !assignedIds.has(itemId));
+      return item.categoryId === category.id && (itemId == null || !assignedIds.has(itemId));
     });
   }
 
@@ -205,7 +205,7 @@ export class MenuComponent implements OnInit {
     const id = typeof item.id === 'number' ? item.id : undefined;
     const title = item.name?.trim() || 'Untitled item';
         const description = item.description?.trim() || 'Nessuna descrizione disponibile';
-    const categoryId = this.getCategoryKey(item.category ?? undefined);
+    const categoryId = item.categoryId != null ? String(item.categoryId) : this.getCategoryKey(item.category ?? undefined);
     const tagLabel = item.tag?.label?.trim();
     const tagClass = item.tag?.cssClass?.trim();
     const tag = tagLabel ? new MenuTag(tagLabel, tagClass || 'menu-tag-default') : undefined;
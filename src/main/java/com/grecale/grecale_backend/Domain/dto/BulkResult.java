@@ -0,0 +1,31 @@
+package com.grecale.grecale_backend.Domain.dto;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Outcome of one element of a bulk request.
+ *
+ * @param index  position of the element in the request.
+ * @param id     id of the entry, {@code null} when it was not created.
+ * @param status HTTP status the element would have received as a single request.
+ * @param entry  the entry once written, {@code null} on failure and deletion.
+ * @param error  reason of the failure, {@code null} on success.
+ * @param <U>    dto.
+ */
+public record BulkResult<U>(int index, Long id, int status, U entry, String error) {
+
+    public static <U> BulkResult<U> succeeded(int index, Long id, HttpStatus status, U entry) {
+        return new BulkResult<>(index, id, status.value(), entry, null);
+    }
+
+    public static <U> BulkResult<U> failed(int index, Long id, HttpStatus status, String error) {
+        return new BulkResult<>(index, id, status.value(), null, error);
+    }
+
+    /**
+     * @return true if the element was written.
+     */
+    public boolean isSuccess() {
+        return status < HttpStatus.MULTIPLE_CHOICES.value();
+    }
+}
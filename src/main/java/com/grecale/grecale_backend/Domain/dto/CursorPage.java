@@ -0,0 +1,13 @@
+package com.grecale.grecale_backend.Domain.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (cursor) pagination.
+ *
+ * @param content    entries of the page, in id order.
+ * @param nextCursor value to pass as {@code after} to get the next page, {@code null} on the last page.
+ * @param <U>        dto.
+ */
+public record CursorPage<U>(List<U> content, Long nextCursor) {
+}
@@ -14,6 +14,7 @@ public class GenericDto implements Serializable {
     private static final long serialVersionUID = 1L;
 
     private Long id;
+    private Long version;
     private String createdBy = "System";
     private String lastModifiedBy;
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
@@ -29,6 +30,14 @@ public class GenericDto implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getCreatedBy() {
         return createdBy;
     }
@@ -1,17 +1,29 @@
 package com.grecale.grecale_backend.Domain.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 @Getter
 @Setter
 public class ItemDto extends GenericDto {
+    @NotBlank
     private String name;
     private String description;
+    @NotNull
     private BigDecimal price;
     private String photoUrl;
     private ItemTagDto tag;
+    private Long categoryId;
+    private UUID subcategoryId;
+    /**
+     * full category, only embedded when explicitly expanded.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private CategoryDto category;
 }
@@ -0,0 +1,13 @@
+package com.grecale.grecale_backend.Domain.dto;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Flat projection of an item row, read without loading the entity graph.
+ */
+public record ItemRow(Long id, long version, String createdBy, String lastModifiedBy, Date createdDate, Date lastModifiedDate,
+                      String name, String description, BigDecimal price, String photoUrl,
+                      String tagLabel, String tagCssClass, Long categoryId, UUID subcategoryId) {
+}
@@ -0,0 +1,17 @@
+package com.grecale.grecale_backend.Domain.dto;
+
+import java.util.List;
+
+/**
+ * Category node of the {@link MenuDto} tree.
+ *
+ * @param items items of the category that are not linked to any subcategory.
+ */
+public record MenuCategoryDto(Long id, String code, String name, String iconUrl,
+                              List<MenuSubcategoryDto> subcategories, List<MenuItemDto> items) {
+
+    public MenuCategoryDto {
+        subcategories = List.copyOf(subcategories);
+        items = List.copyOf(items);
+    }
+}
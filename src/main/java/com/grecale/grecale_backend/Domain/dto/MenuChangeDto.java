@@ -0,0 +1,14 @@
+package com.grecale.grecale_backend.Domain.dto;
+
+import com.grecale.grecale_backend.Enum.ChangeType;
+
+/**
+ * Committed menu change, as pushed to the menu displays.
+ *
+ * @param entityType simple name of the mutated entity.
+ * @param id         id of the mutated entity, {@code null} when the whole entity type changed.
+ * @param changeType kind of mutation.
+ * @param version    data version including the change, to compare with {@link MenuDto#version()}.
+ */
+public record MenuChangeDto(String entityType, Object id, ChangeType changeType, long version) {
+}
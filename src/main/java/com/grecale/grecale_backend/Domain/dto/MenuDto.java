@@ -0,0 +1,16 @@
+package com.grecale.grecale_backend.Domain.dto;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of the whole menu: category -> subcategory -> item.
+ *
+ * @param version    data version the snapshot was built from.
+ * @param categories categories ordered by id.
+ */
+public record MenuDto(long version, List<MenuCategoryDto> categories) {
+
+    public MenuDto {
+        categories = List.copyOf(categories);
+    }
+}
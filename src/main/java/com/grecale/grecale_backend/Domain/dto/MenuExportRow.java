@@ -0,0 +1,10 @@
+package com.grecale.grecale_backend.Domain.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One line of a menu export, in the column order of the import files.
+ */
+public record MenuExportRow(String category, String subcategory, String name, BigDecimal price, String description,
+                            String tagLabel) {
+}
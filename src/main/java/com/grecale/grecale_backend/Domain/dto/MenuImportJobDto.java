@@ -0,0 +1,15 @@
+package com.grecale.grecale_backend.Domain.dto;
+
+import com.grecale.grecale_backend.Enum.ImportStatus;
+import com.grecale.grecale_backend.services.importer.MenuImportResult;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * State of an asynchronous menu import.
+ * rowsRead grows while the file is parsed, result is set once the import committed.
+ */
+public record MenuImportJobDto(UUID id, String fileName, ImportStatus status, int rowsRead, MenuImportResult result,
+                               String error, Date submittedDate, Date finishedDate) {
+}
@@ -0,0 +1,9 @@
+package com.grecale.grecale_backend.Domain.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Item leaf of the {@link MenuDto} tree.
+ */
+public record MenuItemDto(Long id, String name, String description, BigDecimal price, String photoUrl, ItemTagDto tag) {
+}
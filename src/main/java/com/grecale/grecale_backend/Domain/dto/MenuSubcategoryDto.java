@@ -0,0 +1,14 @@
+package com.grecale.grecale_backend.Domain.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Subcategory node of the {@link MenuDto} tree.
+ */
+public record MenuSubcategoryDto(UUID id, String slug, String name, int position, List<MenuItemDto> items) {
+
+    public MenuSubcategoryDto {
+        items = List.copyOf(items);
+    }
+}
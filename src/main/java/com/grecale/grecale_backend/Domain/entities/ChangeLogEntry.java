@@ -0,0 +1,57 @@
+package com.grecale.grecale_backend.Domain.entities;
+
+import com.grecale.grecale_backend.Enum.ChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
+
+import java.util.Date;
+
+/**
+ * Change committed by one node, written in the mutating transaction and read by the other nodes
+ * to invalidate their caches.
+ */
+@Entity
+@Table(name = "change_log", indexes = @Index(name = "idx_change_log_created_date", columnList = "created_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false, length = 64)
+    private String entityType;
+
+    @Column(name = "entity_id", length = 64)
+    private String entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(name = "origin", nullable = false, length = 36)
+    private String origin;
+
+    /**
+     * set by the database on insert, so that it is compared with the clock of the database only, see
+     * {@link com.grecale.grecale_backend.repository.ChangeLogRepository#currentTimestamp()}.
+     */
+    @CreationTimestamp(source = SourceType.DB)
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private Date createdDate;
+}
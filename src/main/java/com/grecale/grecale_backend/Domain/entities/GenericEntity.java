@@ -2,7 +2,6 @@ package com.grecale.grecale_backend.Domain.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
-import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.envers.Audited;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
@@ -24,12 +23,39 @@ public abstract class GenericEntity implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * name of the id generator.
+     */
+    public static final String ID_GENERATOR = "generic_entity";
+
+    /**
+     * table holding the next id of each entity table.
+     */
+    public static final String ID_GENERATOR_TABLE = "id_generator";
+
+    /**
+     * number of ids reserved by an instance at once.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * ids are allocated by blocks from the {@value #ID_GENERATOR_TABLE} table, one row per entity table,
+     * so that several instances can insert concurrently and in JDBC batches.
+     */
     @Id
-    @GeneratedValue(generator = "increment")
-    @GenericGenerator(name = "increment", strategy = "increment")
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = ID_GENERATOR)
+    @TableGenerator(name = ID_GENERATOR, table = ID_GENERATOR_TABLE, pkColumnName = "segment_name",
+            valueColumnName = "next_val", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id", nullable = false, unique = true)
     private Long id;
 
+    /**
+     * optimistic lock, incremented by each update.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @CreatedBy
     @Column(name = "created_by", nullable = false, updatable = false)
     private String createdBy = "System";
@@ -55,6 +81,14 @@ public abstract class GenericEntity implements Serializable {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public String getCreatedBy() {
         return createdBy;
     }
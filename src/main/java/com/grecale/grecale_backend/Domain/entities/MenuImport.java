@@ -0,0 +1,34 @@
+package com.grecale.grecale_backend.Domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+
+/**
+ * Last menu file imported from a source, identified by the hash of its content.
+ */
+@Entity
+@Table(name = "menu_import")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuImport {
+
+    @Id
+    @Column(name = "source", nullable = false)
+    private String source;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "imported_date", nullable = false)
+    private Date importedDate;
+}
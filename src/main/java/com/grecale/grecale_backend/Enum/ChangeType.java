@@ -0,0 +1,7 @@
+package com.grecale.grecale_backend.Enum;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,8 @@
+package com.grecale.grecale_backend.Enum;
+
+public enum ImportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
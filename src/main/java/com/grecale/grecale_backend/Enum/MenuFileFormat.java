@@ -0,0 +1,43 @@
+package com.grecale.grecale_backend.Enum;
+
+import java.util.Locale;
+import java.util.Optional;
+
+public enum MenuFileFormat {
+    XLSX(".xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    CSV(".csv", "text/csv");
+
+    private final String extension;
+    private final String mediaType;
+
+    MenuFileFormat(String extension, String mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * format of a file, told by its extension.
+     * @param fileName file name.
+     * @return format, empty if not supported.
+     */
+    public static Optional<MenuFileFormat> fromFileName(String fileName) {
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String lowerCase = fileName.toLowerCase(Locale.ROOT);
+        for (MenuFileFormat format : values()) {
+            if (lowerCase.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,34 @@
+package com.grecale.grecale_backend.cache;
+
+import com.grecale.grecale_backend.event.EntityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * Empties the service caches once a mutation is committed.
+ * The cached DTOs embed their related entities (an item its category tree, a category its items),
+ * so any change may affect entries of every cache: they are all cleared rather than evicted by key.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * clear the caches after the mutating transaction committed.
+     * @param event change event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::invalidate);
+    }
+}
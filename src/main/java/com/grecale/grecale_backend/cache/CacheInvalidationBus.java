@@ -0,0 +1,59 @@
+package com.grecale.grecale_backend.cache;
+
+import com.grecale.grecale_backend.event.EntityChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the caches of every node consistent: local changes are handed to the {@link ChangeTransport},
+ * and the changes of the other nodes are published again locally, flagged as remote,
+ * so that the {@link DataVersion} and the cache listeners react to them as to local ones.
+ * Does nothing when no transport is configured (single node).
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private final ChangeTransport transport;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheInvalidationBus(ObjectProvider<ChangeTransport> transport, ApplicationEventPublisher eventPublisher,
+                                EntityManagerFactory entityManagerFactory) {
+        this.transport = transport.getIfAvailable();
+        this.eventPublisher = eventPublisher;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * start receiving the changes of the other nodes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (transport != null) {
+            transport.receive(this::onRemoteChange);
+        }
+    }
+
+    /**
+     * hand a local change to the transport, before its transaction commits.
+     * @param event change event.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (transport != null && !event.remote()) {
+            transport.send(event);
+        }
+    }
+
+    private void onRemoteChange(EntityChangedEvent event) {
+        // the second-level cache regions hold rows the other node changed
+        entityManagerFactory.getCache().evictAll();
+        eventPublisher.publishEvent(event);
+    }
+}
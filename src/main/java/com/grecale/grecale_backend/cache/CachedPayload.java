@@ -0,0 +1,12 @@
+package com.grecale.grecale_backend.cache;
+
+/**
+ * JSON body serialized once for a given data version, with its precompressed variant.
+ *
+ * @param version  data version the body was built from.
+ * @param etag     weak validator derived from the body content.
+ * @param identity uncompressed JSON.
+ * @param gzip     gzip-compressed JSON, {@code null} when the body is too small to be worth compressing.
+ */
+public record CachedPayload(long version, String etag, byte[] identity, byte[] gzip) {
+}
@@ -0,0 +1,129 @@
+package com.grecale.grecale_backend.cache;
+
+import com.grecale.grecale_backend.Domain.entities.ChangeLogEntry;
+import com.grecale.grecale_backend.configuration.CacheBusProperties;
+import com.grecale.grecale_backend.event.EntityChangedEvent;
+import com.grecale.grecale_backend.repository.ChangeLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * {@link ChangeTransport} through a {@code change_log} table, needing no broker: each change is inserted in the
+ * mutating transaction, and every node polls the entries following its high-water mark.
+ * Identity ids are not allocated in commit order, so the mark only moves past entries older than the commit grace;
+ * the younger ones are re-read and skipped once delivered. Ages are measured with the clock of the database,
+ * which stamps the entries.
+ */
+@Component
+@ConditionalOnProperty(prefix = "grecale.cache-bus", name = "transport", havingValue = "change-log", matchIfMissing = true)
+public class ChangeLogTransport implements ChangeTransport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeLogTransport.class);
+
+    private static final int POLL_LIMIT = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final CacheBusProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Long> delivered = new HashSet<>();
+    // guards the mark and the delivered ids; polls read the database while holding it, so no monitor
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Consumer<EntityChangedEvent> listener;
+    private long highWaterMark;
+
+    public ChangeLogTransport(ChangeLogRepository changeLogRepository, CacheBusProperties properties) {
+        this.changeLogRepository = changeLogRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    public void send(EntityChangedEvent event) {
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setEntityType(event.entityType());
+        entry.setEntityId(event.id() == null ? null : event.id().toString());
+        entry.setChangeType(event.changeType());
+        entry.setOrigin(nodeId);
+        changeLogRepository.save(entry);
+    }
+
+    @Override
+    public void receive(Consumer<EntityChangedEvent> listener) {
+        lock.lock();
+        try {
+            // caches start empty: only the changes committed from now on matter
+            this.highWaterMark = changeLogRepository.findMaxIdCreatedBefore(graceCutoff());
+            this.listener = listener;
+            LOGGER.info("Node {} receives the changes following entry {}", nodeId, highWaterMark);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * deliver the entries committed by the other nodes since the last poll.
+     */
+    @Scheduled(fixedDelayString = "${grecale.cache-bus.poll-interval:2s}")
+    public void poll() {
+        lock.lock();
+        try {
+            Consumer<EntityChangedEvent> current = listener;
+            if (current == null) {
+                return;
+            }
+            Date cutoff = graceCutoff();
+            long mark = highWaterMark;
+            boolean settled = true;
+            for (ChangeLogEntry entry : changeLogRepository.findByIdGreaterThanOrderByIdAsc(highWaterMark, Limit.of(POLL_LIMIT))) {
+                if (delivered.add(entry.getId()) && !nodeId.equals(entry.getOrigin())) {
+                    current.accept(toEvent(entry));
+                }
+                settled = settled && entry.getCreatedDate().before(cutoff);
+                if (settled) {
+                    mark = entry.getId();
+                }
+            }
+            long newMark = mark;
+            delivered.removeIf(id -> id <= newMark);
+            highWaterMark = newMark;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * drop the entries every node has read by now.
+     */
+    @Scheduled(fixedDelayString = "${grecale.cache-bus.retention:1h}")
+    public void purge() {
+        int purged = changeLogRepository.deleteCreatedBefore(databaseTimeMinus(properties.retention()));
+        LOGGER.debug("{} change log entries purged", purged);
+    }
+
+    private Date graceCutoff() {
+        return databaseTimeMinus(properties.commitGrace());
+    }
+
+    /**
+     * the entries being stamped by the database, their age is measured with its clock rather than the node's.
+     */
+    private Date databaseTimeMinus(Duration duration) {
+        return new Date(changeLogRepository.currentTimestamp().getTime() - duration.toMillis());
+    }
+
+    private static EntityChangedEvent toEvent(ChangeLogEntry entry) {
+        return new EntityChangedEvent(entry.getEntityType(), entry.getEntityId(), entry.getChangeType(), true);
+    }
+}
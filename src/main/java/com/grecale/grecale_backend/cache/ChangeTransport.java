@@ -0,0 +1,25 @@
+package com.grecale.grecale_backend.cache;
+
+import com.grecale.grecale_backend.event.EntityChangedEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the committed changes between the nodes of a deployment, so that each one invalidates its caches.
+ * Implementations are selected with {@code grecale.cache-bus.transport}.
+ */
+public interface ChangeTransport {
+
+    /**
+     * send a local change to the other nodes.
+     * Called within the mutating transaction when there is one, so that the change and its notification commit together.
+     * @param event local change.
+     */
+    void send(EntityChangedEvent event);
+
+    /**
+     * deliver the changes of the other nodes to the given listener, from now on.
+     * @param listener receives each remote change.
+     */
+    void receive(Consumer<EntityChangedEvent> listener);
+}
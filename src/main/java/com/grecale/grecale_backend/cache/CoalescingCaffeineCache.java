@@ -0,0 +1,49 @@
+package com.grecale.grecale_backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Caffeine cache whose synchronized loads ({@code @Cacheable(sync = true)}) are coalesced by {@link SingleFlight}
+ * instead of running inside the computation of the underlying map.
+ * That computation holds a monitor: a virtual thread loading from the database there would pin its carrier thread.
+ * The load still runs on the calling thread, within its transaction.
+ */
+public class CoalescingCaffeineCache extends CaffeineCache {
+
+    private final SingleFlight singleFlight;
+
+    public CoalescingCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues, SingleFlight singleFlight) {
+        super(name, cache, allowNullValues);
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        return singleFlight.execute(getName(), key, () -> {
+            // a load of the same key may have completed between the miss and this one
+            ValueWrapper loaded = get(key);
+            if (loaded != null) {
+                return (T) loaded.get();
+            }
+            T value = load(key, valueLoader);
+            put(key, value);
+            return value;
+        });
+    }
+
+    private static <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+}
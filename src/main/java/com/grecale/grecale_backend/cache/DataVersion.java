@@ -0,0 +1,37 @@
+package com.grecale.grecale_backend.cache;
+
+import com.grecale.grecale_backend.event.EntityChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonically increasing version of the menu data.
+ * Bumped once a mutation is committed, so that read models built from an older version can be detected as stale.
+ */
+@Component
+public class DataVersion {
+
+    private final AtomicLong version = new AtomicLong(1);
+
+    /**
+     * current data version.
+     * @return version.
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * bump the version after the mutating transaction committed, before the listeners reading it.
+     * @param event change event.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,45 @@
+package com.grecale.grecale_backend.cache;
+
+import com.grecale.grecale_backend.services.GenericCrudService;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.AbstractCacheResolver;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Resolves the cache of a {@link GenericCrudService} call from the entity the service manages,
+ * e.g. {@code item} for the item service, other calls using the cache names they declare.
+ */
+@Component(EntityCacheResolver.NAME)
+public class EntityCacheResolver extends AbstractCacheResolver {
+
+    /**
+     * bean name, to reference in the cache annotations.
+     */
+    public static final String NAME = "entityCacheResolver";
+
+    public EntityCacheResolver(CacheManager cacheManager) {
+        super(cacheManager);
+    }
+
+    /**
+     * name of the cache of an entity type.
+     * @param entityType entity class.
+     * @return cache name.
+     */
+    public static String cacheName(Class<?> entityType) {
+        return StringUtils.uncapitalize(entityType.getSimpleName());
+    }
+
+    @Override
+    protected Collection<String> getCacheNames(CacheOperationInvocationContext<?> context) {
+        if (context.getTarget() instanceof GenericCrudService<?, ?> service) {
+            return List.of(cacheName(service.getEntityType()));
+        }
+        return context.getOperation().getCacheNames();
+    }
+}
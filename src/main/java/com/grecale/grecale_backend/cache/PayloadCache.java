@@ -0,0 +1,92 @@
+package com.grecale.grecale_backend.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the serialized (and gzip-compressed) JSON of the list endpoints,
+ * keyed by endpoint and valid as long as the {@link DataVersion} does not change.
+ * The number of entries is bounded, the rarely used ones being evicted first.
+ */
+@Component
+@RequiredArgsConstructor
+public class PayloadCache {
+
+    /**
+     * upper bound of the cached payloads, one per endpoint and request variant.
+     */
+    public static final int MAX_PAYLOADS = 256;
+
+    private static final int MIN_COMPRESSION_SIZE = 1024;
+
+    private final DataVersion dataVersion;
+    private final ObjectMapper objectMapper;
+    private final SingleFlight singleFlight;
+    private final Cache<String, CachedPayload> payloads = Caffeine.newBuilder().maximumSize(MAX_PAYLOADS).build();
+
+    /**
+     * return the payload cached for the key, serializing the loaded body again if the data changed.
+     * Concurrent misses of the same key and version share a single load.
+     * @param key    endpoint key.
+     * @param loader body to serialize on a miss.
+     * @return cached payload.
+     */
+    public CachedPayload get(String key, Supplier<?> loader) {
+        // the version is read before loading: a mutation committed meanwhile leaves the entry stale, never wrong
+        long version = dataVersion.current();
+        CachedPayload cached = payloads.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        return singleFlight.execute("payload", new PayloadKey(key, version), () -> {
+            // a load completed between the lookup above and this one joining it
+            CachedPayload current = payloads.getIfPresent(key);
+            if (current != null && current.version() == version) {
+                return current;
+            }
+            CachedPayload loaded = serialize(version, loader.get());
+            payloads.asMap().merge(key, loaded, (previous, next) -> next.version() >= previous.version() ? next : previous);
+            return loaded;
+        });
+    }
+
+    private CachedPayload serialize(long version, Object body) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = identity.length >= MIN_COMPRESSION_SIZE ? gzip(identity) : null;
+            return new CachedPayload(version, etag(identity), identity, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize cached payload", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(source.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return "W/\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+    }
+
+    private record PayloadKey(String key, long version) {
+    }
+}
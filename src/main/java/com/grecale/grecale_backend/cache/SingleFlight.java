@@ -0,0 +1,88 @@
+package com.grecale.grecale_backend.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical loads: the first caller of a key runs the loader,
+ * the callers arriving while it runs wait for its result instead of loading again.
+ * Counts executed and coalesced loads as {@value #METRIC}, tagged by load name and outcome.
+ */
+@Component
+public class SingleFlight {
+
+    /**
+     * name of the load counter.
+     */
+    public static final String METRIC = "grecale.coalescing.loads";
+
+    private final Map<LoadKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * run the loader, or wait for the same load already running.
+     * @param name   load name, e.g. {@code payload}.
+     * @param key    load key within the name, e.g. the endpoint and data version.
+     * @param loader computes the value.
+     * @param <T>    value type.
+     * @return loaded value, shared by the coalesced callers.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> loader) {
+        LoadKey loadKey = new LoadKey(name, key);
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(loadKey, load);
+        if (running != null) {
+            counter(name, "coalesced").increment();
+            return (T) await(running);
+        }
+
+        counter(name, "executed").increment();
+        try {
+            T value = loader.get();
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(loadKey, load);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String name, String outcome) {
+        return Counter.builder(METRIC)
+                .description("Loads run by a caller (executed) or shared with a concurrent caller (coalesced)")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record LoadKey(String name, Object key) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.grecale.grecale_backend.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Keys a cached method call by method, arguments and {@link DataVersion}.
+ * The version is read before the value is loaded: a value loaded while a mutation commits
+ * is stored under the old version and never served once the version moved on.
+ */
+@Component(VersionedKeyGenerator.NAME)
+@RequiredArgsConstructor
+public class VersionedKeyGenerator implements KeyGenerator {
+
+    /**
+     * bean name, to reference in the cache annotations.
+     */
+    public static final String NAME = "versionedKeyGenerator";
+
+    private final DataVersion dataVersion;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        return new SimpleKey(dataVersion.current(), method.getName(), SimpleKeyGenerator.generateKey(params));
+    }
+}
@@ -0,0 +1,65 @@
+package com.grecale.grecale_backend.configuration;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Background executors and scheduled tasks configuration.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(MenuEventsProperties.class)
+public class AsyncConfiguration {
+
+    /**
+     * maximum number of menu imports waiting for the running one.
+     */
+    public static final int MENU_IMPORT_QUEUE_CAPACITY = 4;
+
+    /**
+     * executor of the uploaded menu imports, one at a time: each one replaces the whole menu.
+     * Its thread is virtual when spring.threads.virtual.enabled is set, as the request threads.
+     * @param environment application environment.
+     * @return created bean.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor menuImportExecutor(Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(MENU_IMPORT_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("menu-import-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * executor writing the menu changes to the open event streams, one task per connection at a time.
+     * A few platform threads serve every connection; with virtual threads each write gets its own.
+     * @param environment application environment.
+     * @param properties  menu events settings.
+     * @return created bean.
+     */
+    @Bean
+    public TaskExecutor menuEventsExecutor(Environment environment, MenuEventsProperties properties) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("menu-events-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.senderThreads());
+        executor.setMaxPoolSize(properties.senderThreads());
+        executor.setThreadNamePrefix("menu-events-");
+        return executor;
+    }
+}
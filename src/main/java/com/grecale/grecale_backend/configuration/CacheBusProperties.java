@@ -0,0 +1,25 @@
+package com.grecale.grecale_backend.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Cross-node cache invalidation settings.
+ *
+ * @param transport    {@code change-log} to exchange the changes through the database, {@code none} for a single node.
+ * @param pollInterval delay between two reads of the change log, bounding how late the other nodes evict.
+ * @param commitGrace  longest expected mutating transaction: entries are re-read for that long, so that one
+ *                     committed after an entry of a higher id is not missed.
+ * @param retention    age after which change log entries are purged.
+ */
+@ConfigurationProperties(prefix = "grecale.cache-bus")
+public record CacheBusProperties(String transport, Duration pollInterval, Duration commitGrace, Duration retention) {
+
+    public CacheBusProperties {
+        transport = transport == null ? "change-log" : transport;
+        pollInterval = pollInterval == null ? Duration.ofSeconds(2) : pollInterval;
+        commitGrace = commitGrace == null ? Duration.ofSeconds(30) : commitGrace;
+        retention = retention == null ? Duration.ofHours(1) : retention;
+    }
+}
@@ -0,0 +1,81 @@
+package com.grecale.grecale_backend.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.grecale.grecale_backend.cache.CoalescingCaffeineCache;
+import com.grecale.grecale_backend.cache.SingleFlight;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Service caches configuration.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties({CacheProperties.class, CacheBusProperties.class})
+public class CacheConfiguration {
+
+    /**
+     * cache manager bean: one Caffeine cache per configured spec, created upfront so that the actuator
+     * exports its statistics, and caches with the default spec for any other name.
+     * Synchronized loads are coalesced outside of the Caffeine map, see {@link CoalescingCaffeineCache}.
+     * @param properties cache specs.
+     * @param singleFlight load coalescing.
+     * @return created bean.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties, SingleFlight singleFlight) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CoalescingCaffeineCache(name, cache, isAllowNullValues(), singleFlight);
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.from(properties.defaultSpec()).recordStats());
+        properties.specs().forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, Caffeine.from(spec).recordStats().build()));
+        return cacheManager;
+    }
+
+    /**
+     * JCache manager of the Hibernate second-level cache regions (sized in application.conf).
+     * Each context gets its own under a unique URI: the default one is shared by the whole JVM,
+     * and would serve a context the rows another context cached under the same ids.
+     * @return created bean, closed with the context.
+     */
+    @Bean
+    public javax.cache.CacheManager secondLevelCacheManager() {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("grecale:second-level-cache:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+    }
+
+    /**
+     * hand the second-level cache manager to Hibernate.
+     * @param secondLevelCacheManager JCache manager of the regions.
+     * @return created bean.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(javax.cache.CacheManager secondLevelCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", secondLevelCacheManager);
+    }
+
+    /**
+     * close the entity manager factory before the second-level cache manager.
+     * @return created bean.
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor secondLevelCacheManagerDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor("secondLevelCacheManager");
+    }
+}
@@ -0,0 +1,20 @@
+package com.grecale.grecale_backend.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Size and expiry of the service caches, as Caffeine specs (e.g. {@code maximumSize=500,expireAfterWrite=10m}).
+ *
+ * @param defaultSpec spec of the caches without their own entry.
+ * @param specs       spec of each cache, by cache name.
+ */
+@ConfigurationProperties(prefix = "grecale.cache")
+public record CacheProperties(String defaultSpec, Map<String, String> specs) {
+
+    public CacheProperties {
+        defaultSpec = defaultSpec == null ? "maximumSize=500,expireAfterWrite=10m" : defaultSpec;
+        specs = specs == null ? Map.of() : specs;
+    }
+}
@@ -0,0 +1,91 @@
+package com.grecale.grecale_backend.configuration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves the table based id generators past the ids already stored, before any request is served.
+ * Needed once for the rows inserted with the former {@code increment} generator, harmless afterwards:
+ * a generator value is only ever raised.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdGeneratorInitializer.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        // by default the table holds the last id handed out rather than the next one
+        long offset = Boolean.parseBoolean(String.valueOf(sessionFactory.getProperties()
+                .getOrDefault(AvailableSettings.TABLE_GENERATOR_STORE_LAST_USED, "true"))) ? 0 : 1;
+
+        // several entities may share a segment: the segment must clear the highest of their ids
+        Map<TableGenerator, Long> values = new HashMap<>();
+        Map<String, TableGenerator> generatorsBySegment = new HashMap<>();
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+                if (persister.getGenerator() instanceof TableGenerator generator) {
+                    TableGenerator segment = generatorsBySegment.computeIfAbsent(
+                            generator.getTableName() + "#" + generator.getSegmentValue(), key -> generator);
+                    values.merge(segment, maxId(entityManager, persister) + offset, Math::max);
+                }
+            });
+        } finally {
+            entityManager.close();
+        }
+        values.forEach(this::raise);
+    }
+
+    private long maxId(EntityManager entityManager, EntityPersister persister) {
+        Long maxId = entityManager.createQuery("select max(e.id) from " + persister.getEntityName() + " e", Long.class)
+                .getSingleResult();
+        return maxId == null ? 0L : maxId;
+    }
+
+    private void raise(TableGenerator generator, long value) {
+        List<Long> stored = jdbcTemplate.queryForList("select " + generator.getValueColumnName() + " from "
+                + generator.getTableName() + " where " + generator.getSegmentColumnName() + " = ?", Long.class,
+                generator.getSegmentValue());
+        if (stored.isEmpty()) {
+            try {
+                jdbcTemplate.update("insert into " + generator.getTableName() + " (" + generator.getSegmentColumnName() + ", "
+                        + generator.getValueColumnName() + ") values (?, ?)", generator.getSegmentValue(), value);
+                LOGGER.info("Id generator segment '{}' moved to {}", generator.getSegmentValue(), value);
+                return;
+            } catch (DuplicateKeyException e) {
+                // another instance starting at the same time inserted the segment first: raise its value instead
+                LOGGER.debug("Id generator segment '{}' inserted concurrently", generator.getSegmentValue());
+            }
+        } else if (stored.get(0) >= value) {
+            return;
+        }
+        // only ever raised, whatever another instance wrote in between
+        int updated = jdbcTemplate.update("update " + generator.getTableName() + " set " + generator.getValueColumnName()
+                        + " = ? where " + generator.getSegmentColumnName() + " = ? and " + generator.getValueColumnName() + " < ?",
+                value, generator.getSegmentValue(), value);
+        if (updated > 0) {
+            LOGGER.info("Id generator segment '{}' moved to {}", generator.getSegmentValue(), value);
+        }
+    }
+}
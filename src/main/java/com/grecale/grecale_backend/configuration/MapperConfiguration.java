@@ -1,35 +1,15 @@
 package com.grecale.grecale_backend.configuration;
 
-import com.google.common.cache.CacheBuilder;
-import org.modelmapper.ModelMapper;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Collections;
-import java.util.concurrent.TimeUnit;
-
 /**
  * Mapper configuration.
  */
 @Configuration
-@EnableCaching
 public class MapperConfiguration {
 
-    /**
-     * create model mapper.
-     * @return created bean.
-     */
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
-
     /**
      * restTemplate.
      * @return created bean.
@@ -38,23 +18,4 @@ public class MapperConfiguration {
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
-
-    /**
-     * cache manager bean.
-     * @return .
-     */
-    @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager concurrentMapCacheManager = new ConcurrentMapCacheManager() {
-
-            @Override
-            protected Cache createConcurrentMapCache(final String name) {
-                return new ConcurrentMapCache(name, CacheBuilder.newBuilder()
-                        .expireAfterWrite(24, TimeUnit.HOURS)
-                        .maximumSize(1000).build().asMap(), false);
-            }
-        };
-        concurrentMapCacheManager.setCacheNames(Collections.singleton("codeUA"));
-        return concurrentMapCacheManager;
-    }
 }
@@ -0,0 +1,28 @@
+package com.grecale.grecale_backend.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Menu change stream (server-sent events) settings.
+ *
+ * @param heartbeat      delay after which an idle connection is sent a comment, so that proxies keep it open
+ *                       and a gone client is detected.
+ * @param timeout        lifetime of a connection, the client reconnecting afterwards.
+ * @param queueCapacity  changes kept for a slow connection: beyond it they are dropped and the client told to reload.
+ * @param maxConnections open connections above which new ones are refused.
+ * @param senderThreads  threads writing to the connections, unused when the threads are virtual.
+ */
+@ConfigurationProperties(prefix = "grecale.menu-events")
+public record MenuEventsProperties(Duration heartbeat, Duration timeout, Integer queueCapacity, Integer maxConnections,
+                                   Integer senderThreads) {
+
+    public MenuEventsProperties {
+        heartbeat = heartbeat == null ? Duration.ofSeconds(15) : heartbeat;
+        timeout = timeout == null ? Duration.ofMinutes(30) : timeout;
+        queueCapacity = queueCapacity == null ? 32 : queueCapacity;
+        maxConnections = maxConnections == null ? 10_000 : maxConnections;
+        senderThreads = senderThreads == null ? 4 : senderThreads;
+    }
+}
@@ -0,0 +1,53 @@
+package com.grecale.grecale_backend.configuration;
+
+import com.grecale.grecale_backend.Domain.dto.GenericDto;
+import com.grecale.grecale_backend.rest.GenericCrudController;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.springdoc.core.customizers.OperationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+
+/**
+ * OpenAPI documentation configuration.
+ */
+@Configuration
+public class OpenApiConfiguration {
+
+    private static final String GENERIC_DTO_REF = "#/components/schemas/" + GenericDto.class.getSimpleName();
+
+    /**
+     * document the bodies the generic controller declares as {@link GenericDto} with the DTO of the concrete controller,
+     * an annotation not being able to name a type parameter.
+     * @return created bean.
+     */
+    @Bean
+    public OperationCustomizer genericDtoCustomizer() {
+        return (operation, handlerMethod) -> {
+            Class<?> dtoClass = ResolvableType.forClass(handlerMethod.getBeanType()).as(GenericCrudController.class).resolveGeneric(1);
+            if (dtoClass == null || operation.getResponses() == null) {
+                return operation;
+            }
+            String dtoRef = "#/components/schemas/" + dtoClass.getSimpleName();
+            for (ApiResponse response : operation.getResponses().values()) {
+                Content content = response.getContent();
+                if (content != null) {
+                    content.values().forEach(mediaType -> replaceRef(mediaType.getSchema(), dtoRef));
+                }
+            }
+            return operation;
+        };
+    }
+
+    private static void replaceRef(Schema<?> schema, String dtoRef) {
+        if (schema == null) {
+            return;
+        }
+        if (GENERIC_DTO_REF.equals(schema.get$ref())) {
+            schema.set$ref(dtoRef);
+        }
+        replaceRef(schema.getItems(), dtoRef);
+    }
+}
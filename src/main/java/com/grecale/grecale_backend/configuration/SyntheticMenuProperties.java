@@ -0,0 +1,24 @@
+package com.grecale.grecale_backend.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Synthetic menu settings, seeded instead of the menu data file to measure the application on large menus.
+ *
+ * @param enabled                  true to seed the synthetic menu.
+ * @param categories               number of categories.
+ * @param subcategoriesPerCategory number of subcategories of each category.
+ * @param items                    number of items, spread over the categories.
+ * @param seed                     random seed: the same settings always give the same menu.
+ */
+@ConfigurationProperties(prefix = "grecale.synthetic-menu")
+public record SyntheticMenuProperties(boolean enabled, Integer categories, Integer subcategoriesPerCategory,
+                                      Integer items, Long seed) {
+
+    public SyntheticMenuProperties {
+        categories = categories == null ? 50 : categories;
+        subcategoriesPerCategory = subcategoriesPerCategory == null ? 8 : subcategoriesPerCategory;
+        items = items == null ? 200_000 : items;
+        seed = seed == null ? 42L : seed;
+    }
+}
@@ -0,0 +1,24 @@
+package com.grecale.grecale_backend.configuration;
+
+import com.grecale.grecale_backend.metrics.ApiMetricsInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC configuration.
+ */
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final ApiMetricsInterceptor apiMetricsInterceptor;
+
+    public WebConfiguration(ApiMetricsInterceptor apiMetricsInterceptor) {
+        this.apiMetricsInterceptor = apiMetricsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(apiMetricsInterceptor);
+    }
+}
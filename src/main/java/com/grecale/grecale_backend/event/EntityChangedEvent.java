@@ -0,0 +1,40 @@
+package com.grecale.grecale_backend.event;
+
+import com.grecale.grecale_backend.Enum.ChangeType;
+
+/**
+ * Published by the services whenever menu data is mutated.
+ * A {@code null} id means that the whole entity type changed (e.g. bulk import).
+ * Changes committed by another node are published again locally, flagged as remote.
+ *
+ * @param entityType simple name of the mutated entity.
+ * @param id         id of the mutated entity, {@code null} for bulk changes.
+ * @param changeType kind of mutation.
+ * @param remote     true if the change was committed by another node.
+ */
+public record EntityChangedEvent(String entityType, Object id, ChangeType changeType, boolean remote) {
+
+    public EntityChangedEvent(String entityType, Object id, ChangeType changeType) {
+        this(entityType, id, changeType, false);
+    }
+
+    public static EntityChangedEvent created(Class<?> entityType, Object id) {
+        return new EntityChangedEvent(entityType.getSimpleName(), id, ChangeType.CREATED);
+    }
+
+    public static EntityChangedEvent updated(Class<?> entityType, Object id) {
+        return new EntityChangedEvent(entityType.getSimpleName(), id, ChangeType.UPDATED);
+    }
+
+    public static EntityChangedEvent deleted(Class<?> entityType, Object id) {
+        return new EntityChangedEvent(entityType.getSimpleName(), id, ChangeType.DELETED);
+    }
+
+    /**
+     * the same change, received from another node.
+     * @return remote event.
+     */
+    public EntityChangedEvent asRemote() {
+        return new EntityChangedEvent(entityType, id, changeType, true);
+    }
+}
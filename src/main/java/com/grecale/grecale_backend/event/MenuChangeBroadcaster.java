@@ -0,0 +1,246 @@
+package com.grecale.grecale_backend.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grecale.grecale_backend.Domain.dto.MenuChangeDto;
+import com.grecale.grecale_backend.cache.DataVersion;
+import com.grecale.grecale_backend.configuration.MenuEventsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes the committed menu changes to the open event streams of the menu displays.
+ * A connection holds no thread while idle: its changes wait in a small bounded queue, drained by the
+ * {@code menuEventsExecutor} one task per connection at a time. A connection too slow to keep up loses its
+ * queued changes and is told to reload the menu instead, so that it never holds more than the queue capacity.
+ * Idle connections are sent a comment every heartbeat, which keeps proxies from closing them and detects gone clients.
+ */
+@Component
+public class MenuChangeBroadcaster {
+
+    /**
+     * name of the event carrying a {@link MenuChangeDto}.
+     */
+    public static final String CHANGE_EVENT = "change";
+    /**
+     * name of the event sent on connection, carrying the current data version.
+     */
+    public static final String VERSION_EVENT = "version";
+    /**
+     * name of the event telling the client that changes were missed and the menu must be reloaded.
+     */
+    public static final String RESYNC_EVENT = "resync";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MenuChangeBroadcaster.class);
+    private static final Message HEARTBEAT = new Message(null, null, null);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final DataVersion dataVersion;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor executor;
+    private final MenuEventsProperties properties;
+    private final Counter resyncs;
+
+    public MenuChangeBroadcaster(DataVersion dataVersion, ObjectMapper objectMapper,
+                                 @Qualifier("menuEventsExecutor") TaskExecutor executor,
+                                 MenuEventsProperties properties, MeterRegistry meterRegistry) {
+        this.dataVersion = dataVersion;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.properties = properties;
+        this.resyncs = meterRegistry.counter("grecale.menu-events.resyncs");
+        Gauge.builder("grecale.menu-events.connections", subscribers, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * open an event stream, starting with the current data version.
+     * @param lastEventId id of the last event received before reconnecting, if any.
+     * @return the stream, empty when the connection limit is reached.
+     */
+    public Optional<SseEmitter> subscribe(String lastEventId) {
+        if (subscribers.size() >= properties.maxConnections()) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        long version = dataVersion.current();
+        // a reconnecting client not at the current version reloads rather than guessing which changes it missed:
+        // the data version is local to the node, so a higher id than ours (another node, a restart) is stale as well
+        subscriber.offer(versionMessage(missedChanges(lastEventId, version) ? RESYNC_EVENT : VERSION_EVENT, version));
+        return Optional.of(emitter);
+    }
+
+    /**
+     * number of open event streams.
+     * @return connections.
+     */
+    public int connections() {
+        return subscribers.size();
+    }
+
+    /**
+     * push a change once committed, after the data version included it.
+     * @param event change event.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long version = dataVersion.current();
+        Message message = new Message(CHANGE_EVENT, Long.toString(version),
+                toJson(new MenuChangeDto(event.entityType(), event.id(), event.changeType(), version)));
+        subscribers.forEach(subscriber -> subscriber.offer(message));
+    }
+
+    /**
+     * send a comment to the connections that received nothing since the last heartbeat.
+     */
+    @Scheduled(fixedDelayString = "${grecale.menu-events.heartbeat:15s}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> {
+            if (!subscriber.active.getAndSet(false)) {
+                subscriber.offer(HEARTBEAT);
+            }
+        });
+    }
+
+    /**
+     * close the open streams on shutdown, the clients reconnecting to another node.
+     * Done before the web server stops: a graceful shutdown would otherwise wait for them until it times out.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private static boolean missedChanges(String lastEventId, long version) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return false;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim()) != version;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private Message versionMessage(String name, long version) {
+        return new Message(name, Long.toString(version), toJson(Map.of("version", version)));
+    }
+
+    private String toJson(Object data) {
+        try {
+            // serialized once for every connection
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Menu change not serializable", e);
+        }
+    }
+
+    /**
+     * event waiting to be sent; a {@code null} name stands for the heartbeat comment.
+     */
+    private record Message(String name, String id, String json) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().name(name).id(id).data(json);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Message> queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean active = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Message message) {
+            if (message != HEARTBEAT) {
+                active.set(true);
+            }
+            if (!queue.offer(message)) {
+                Message resync = versionMessage(RESYNC_EVENT, dataVersion.current());
+                do {
+                    queue.clear();
+                } while (!queue.offer(resync));
+                resyncs.increment();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                drop(e);
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while ((message = queue.poll()) != null) {
+                    emitter.send(message.toEvent());
+                }
+            } catch (IOException | IllegalStateException e) {
+                drop(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // a message offered after the last poll but before the flag was reset
+            if (!queue.isEmpty() && subscribers.contains(this)) {
+                schedule();
+            }
+        }
+
+        private void drop(Exception cause) {
+            LOGGER.debug("Menu event stream dropped: {}", cause.getMessage());
+            subscribers.remove(this);
+            queue.clear();
+            emitter.completeWithError(cause);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.grecale.grecale_backend.exception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Translates the exceptions escaping the controllers into {@link ExceptionResponse} bodies.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    /**
+     * missing entry, or missing entry referenced by the written one.
+     * @param exception raised exception.
+     * @return 404 response.
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ExceptionResponse> handle(ResourceNotFoundException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ExceptionResponse.builder().error(exception.getMessage()).build());
+    }
+
+    /**
+     * stale conditional write, detected before applying it.
+     * @param exception raised exception.
+     * @return 412 response.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ExceptionResponse> handle(PreconditionFailedException exception) {
+        return preconditionFailed(exception.getMessage());
+    }
+
+    /**
+     * concurrent write committed between the read and the flush of an update.
+     * @param exception raised exception.
+     * @return 412 response.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ExceptionResponse> handle(ObjectOptimisticLockingFailureException exception) {
+        LOGGER.info("Concurrent update of {} {}", exception.getPersistentClassName(), exception.getIdentifier());
+        return preconditionFailed("entry was modified concurrently, reload it and retry");
+    }
+
+    private ResponseEntity<ExceptionResponse> preconditionFailed(String error) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(ExceptionResponse.builder().error(error).build());
+    }
+}
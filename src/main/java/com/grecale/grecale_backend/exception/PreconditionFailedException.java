@@ -0,0 +1,11 @@
+package com.grecale.grecale_backend.exception;
+
+/**
+ * Raised when a conditional write targets an entity version that is no longer the current one.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,37 @@
+package com.grecale.grecale_backend.mapper;
+
+import com.grecale.grecale_backend.Domain.dto.CategoryDto;
+import com.grecale.grecale_backend.Domain.entities.Category;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
+
+@Mapper(config = MapperConfig.class, uses = SubcategoryMapper.class)
+public interface CategoryMapper extends EntityMapper<Category, CategoryDto> {
+
+    @Override
+    CategoryDto toDto(Category entity);
+
+    /**
+     * Convert category to a DTO without its subcategories, which are not written back from a DTO anyway.
+     *
+     * @param entity map database table.
+     * @return dto object with no subcategory.
+     */
+    @Named("shallow")
+    @Mapping(target = "subcategories", ignore = true)
+    CategoryDto toShallowDto(Category entity);
+
+    @Override
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "items", ignore = true)
+    @Mapping(target = "subcategories", ignore = true)
+    Category toEntity(CategoryDto dto);
+
+    @Override
+    @ManagedStateIgnored
+    @Mapping(target = "items", ignore = true)
+    @Mapping(target = "subcategories", ignore = true)
+    void updateEntity(CategoryDto dto, @MappingTarget Category entity);
+}
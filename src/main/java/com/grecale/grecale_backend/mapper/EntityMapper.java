@@ -0,0 +1,38 @@
+package com.grecale.grecale_backend.mapper;
+
+import com.grecale.grecale_backend.Domain.dto.GenericDto;
+import com.grecale.grecale_backend.Domain.entities.GenericEntity;
+import org.mapstruct.MappingTarget;
+
+/**
+ * Compile-time generated mapping between an entity and its DTO.
+ * @param <T> entity.
+ * @param <U> dto.
+ */
+public interface EntityMapper<T extends GenericEntity, U extends GenericDto> {
+
+    /**
+     * Convert entity to DTO Object.
+     *
+     * @param entity map database table.
+     * @return dto object, null if the entity is null.
+     */
+    U toDto(T entity);
+
+    /**
+     * Convert DTO Object to entity.
+     *
+     * @param dto object.
+     * @return entity map database table, null if the dto is null.
+     */
+    T toEntity(U dto);
+
+    /**
+     * Copy DTO Object onto an entity in place, so that a managed entity is updated by dirty checking.
+     * The id, version and audit columns of the entity are left untouched.
+     *
+     * @param dto    object.
+     * @param entity entity to update.
+     */
+    void updateEntity(U dto, @MappingTarget T entity);
+}
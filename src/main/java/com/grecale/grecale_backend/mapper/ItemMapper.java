@@ -0,0 +1,104 @@
+package com.grecale.grecale_backend.mapper;
+
+import com.grecale.grecale_backend.Domain.dto.ItemDto;
+import com.grecale.grecale_backend.Domain.dto.ItemRow;
+import com.grecale.grecale_backend.Domain.dto.ItemTagDto;
+import com.grecale.grecale_backend.Domain.entities.Category;
+import com.grecale.grecale_backend.Domain.entities.Item;
+import com.grecale.grecale_backend.Domain.entities.Subcategory;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper(config = MapperConfig.class, uses = CategoryMapper.class)
+public interface ItemMapper extends EntityMapper<Item, ItemDto> {
+
+    @Override
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "subcategoryId", source = "subcategory.id")
+    ItemDto toDto(Item entity);
+
+    /**
+     * Convert item to its lean DTO, the category being referenced by id only.
+     *
+     * @param entity map database table.
+     * @return dto object without embedded category.
+     */
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "subcategoryId", source = "subcategory.id")
+    @Mapping(target = "category", ignore = true)
+    ItemDto toLeanDto(Item entity);
+
+    /**
+     * Convert a projected row to its lean DTO.
+     *
+     * @param row projected item row.
+     * @return dto object without embedded category.
+     */
+    @Mapping(target = "tag", expression = "java(toTag(row.tagLabel(), row.tagCssClass()))")
+    @Mapping(target = "category", ignore = true)
+    ItemDto toLeanDto(ItemRow row);
+
+    @Override
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "subcategory", ignore = true)
+    Item toEntity(ItemDto dto);
+
+    /**
+     * Copy the item DTO onto an entity, the category and subcategory being relinked by id only.
+     *
+     * @param dto    object.
+     * @param entity entity to update.
+     */
+    @Override
+    @ManagedStateIgnored
+    @Mapping(target = "category", ignore = true)
+    @Mapping(target = "subcategory", ignore = true)
+    void updateEntity(ItemDto dto, @MappingTarget Item entity);
+
+    /**
+     * link the category and subcategory referenced by id when the DTO does not embed them.
+     * The linked instances only carry the id: the service replaces them with the stored entities.
+     * References already pointing at the wanted ids are kept, so an unchanged link stays clean for dirty checking.
+     *
+     * @param dto  source dto.
+     * @param item mapped entity.
+     */
+    @AfterMapping
+    default void linkReferences(ItemDto dto, @MappingTarget Item item) {
+        Long categoryId = dto.getCategoryId() != null ? dto.getCategoryId()
+                : dto.getCategory() != null ? dto.getCategory().getId() : null;
+        if (categoryId == null) {
+            item.setCategory(null);
+        } else if (item.getCategory() == null || !categoryId.equals(item.getCategory().getId())) {
+            Category category = new Category();
+            category.setId(categoryId);
+            item.setCategory(category);
+        }
+        if (dto.getSubcategoryId() == null) {
+            item.setSubcategory(null);
+        } else if (item.getSubcategory() == null || !dto.getSubcategoryId().equals(item.getSubcategory().getId())) {
+            Subcategory subcategory = new Subcategory();
+            subcategory.setId(dto.getSubcategoryId());
+            item.setSubcategory(subcategory);
+        }
+    }
+
+    /**
+     * tag of a projected row.
+     *
+     * @param label    tag label.
+     * @param cssClass tag css class.
+     * @return tag, null when the row has none.
+     */
+    default ItemTagDto toTag(String label, String cssClass) {
+        if (label == null && cssClass == null) {
+            return null;
+        }
+        ItemTagDto tag = new ItemTagDto();
+        tag.setLabel(label);
+        tag.setCssClass(cssClass);
+        return tag;
+    }
+}
@@ -0,0 +1,23 @@
+package com.grecale.grecale_backend.mapper;
+
+import org.mapstruct.Mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Leaves the columns owned by the persistence layer untouched when a DTO is copied onto an entity:
+ * the id, the optimistic lock version and the audit columns.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+@Mapping(target = "id", ignore = true)
+@Mapping(target = "version", ignore = true)
+@Mapping(target = "createdBy", ignore = true)
+@Mapping(target = "createdDate", ignore = true)
+@Mapping(target = "lastModifiedBy", ignore = true)
+@Mapping(target = "lastModifiedDate", ignore = true)
+public @interface ManagedStateIgnored {
+}
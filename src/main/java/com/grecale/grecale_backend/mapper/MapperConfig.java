@@ -0,0 +1,19 @@
+package com.grecale.grecale_backend.mapper;
+
+import org.mapstruct.Builder;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared configuration of the generated mappers: spring beans wired by constructor,
+ * and a build failure whenever a target property is left unmapped.
+ * The Lombok builders are bypassed as they do not cover the {@code GenericEntity} columns.
+ */
+@org.mapstruct.MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface MapperConfig {
+}
@@ -0,0 +1,42 @@
+package com.grecale.grecale_backend.mapper;
+
+import com.grecale.grecale_backend.Domain.dto.SubcategoryDto;
+import com.grecale.grecale_backend.Domain.entities.Item;
+import com.grecale.grecale_backend.Domain.entities.Subcategory;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Mapper(config = MapperConfig.class)
+public interface SubcategoryMapper {
+
+    /**
+     * Convert subcategory to DTO Object, items are exposed by id only.
+     *
+     * @param subcategory map database table.
+     * @return dto object.
+     */
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "itemIds", source = "items")
+    SubcategoryDto toDto(Subcategory subcategory);
+
+    /**
+     * ids of the given items, skipping the ones not persisted yet.
+     *
+     * @param items linked items.
+     * @return item ids, never null.
+     */
+    default List<Long> toItemIds(List<Item> items) {
+        List<Long> itemIds = new ArrayList<>();
+        if (items != null) {
+            for (Item item : items) {
+                if (item.getId() != null) {
+                    itemIds.add(item.getId());
+                }
+            }
+        }
+        return itemIds;
+    }
+}
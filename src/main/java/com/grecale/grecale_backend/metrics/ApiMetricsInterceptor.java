@@ -0,0 +1,130 @@
+package com.grecale.grecale_backend.metrics;
+
+import com.grecale.grecale_backend.rest.GenericCrudController;
+import com.grecale.grecale_backend.rest.SubcategoryController;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the CRUD controller operations, and records the SQL statements and entities loaded by each of them,
+ * all tagged by entity type and operation.
+ * Streamed responses are timed until their end, but only their request thread is counted.
+ */
+@Component
+public class ApiMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    /**
+     * timer of the operations.
+     */
+    public static final String REQUESTS = "grecale.api.requests";
+
+    /**
+     * histogram of the SQL statements per operation.
+     */
+    public static final String STATEMENTS = "grecale.api.sql.statements";
+
+    /**
+     * histogram of the entities loaded per operation.
+     */
+    public static final String ENTITIES_LOADED = "grecale.api.entities.loaded";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiMetricsInterceptor.class);
+
+    private static final String START = ApiMetricsInterceptor.class.getName() + ".start";
+    private static final String STATISTICS = ApiMetricsInterceptor.class.getName() + ".statistics";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Tags> tagsByHandler = new ConcurrentHashMap<>();
+
+    public ApiMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // an async dispatch goes through again: the operation started with the first one
+        if (isMeasured(handler) && request.getAttribute(START) == null) {
+            request.setAttribute(START, System.nanoTime());
+            RequestStatistics.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START) != null) {
+            request.setAttribute(STATISTICS, RequestStatistics.stop());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START);
+        if (start == null || request.isAsyncStarted()) {
+            return;
+        }
+        long duration = System.nanoTime() - (Long) start;
+        RequestStatistics statistics = request.getAttribute(STATISTICS) instanceof RequestStatistics stashed
+                ? stashed : RequestStatistics.stop();
+        Tags tags = tagsByHandler.computeIfAbsent(((HandlerMethod) handler).getMethod(), method -> tagsOf((HandlerMethod) handler));
+
+        HttpStatus.Series series = HttpStatus.Series.resolve(response.getStatus());
+        Timer.builder(REQUESTS)
+                .tags(tags)
+                .tag("outcome", series == null ? "UNKNOWN" : series.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS);
+        if (statistics != null) {
+            summary(STATEMENTS, tags).record(statistics.getStatements());
+            summary(ENTITIES_LOADED, tags).record(statistics.getEntitiesLoaded());
+            LOGGER.trace("{} {}: {} statements, {} entities loaded in {} µs", request.getMethod(), request.getRequestURI(),
+                    statistics.getStatements(), statistics.getEntitiesLoaded(), duration / 1_000);
+        }
+    }
+
+    private DistributionSummary summary(String name, Tags tags) {
+        return DistributionSummary.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1_000.0)
+                .register(meterRegistry);
+    }
+
+    private static boolean isMeasured(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return false;
+        }
+        Class<?> beanType = handlerMethod.getBeanType();
+        return GenericCrudController.class.isAssignableFrom(beanType) || SubcategoryController.class.isAssignableFrom(beanType);
+    }
+
+    private static Tags tagsOf(HandlerMethod handler) {
+        return Tags.of("entity", entityOf(handler.getBeanType()), "operation", handler.getMethod().getName());
+    }
+
+    private static String entityOf(Class<?> controllerType) {
+        Class<?> entityType = ResolvableType.forClass(controllerType).as(GenericCrudController.class).resolveGeneric(0);
+        if (entityType != null) {
+            return StringUtils.uncapitalize(entityType.getSimpleName());
+        }
+        return StringUtils.uncapitalize(controllerType.getSimpleName().replace("Controller", ""));
+    }
+}
@@ -0,0 +1,66 @@
+package com.grecale.grecale_backend.metrics;
+
+/**
+ * SQL statements prepared and entities loaded by the current request thread.
+ * Counting starts with {@link #start()}; outside of it, the Hibernate hooks count nothing.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entitiesLoaded;
+
+    private RequestStatistics() {
+    }
+
+    /**
+     * start counting on the current thread, dropping any previous count.
+     * @return the new statistics.
+     */
+    public static RequestStatistics start() {
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * the statistics of the current thread.
+     * @return current statistics, null if not counting.
+     */
+    public static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * stop counting on the current thread.
+     * @return the statistics counted, null if not counting.
+     */
+    public static RequestStatistics stop() {
+        RequestStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    static void statementPrepared() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entitiesLoaded++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+}
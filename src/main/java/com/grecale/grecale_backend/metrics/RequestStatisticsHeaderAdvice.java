@@ -0,0 +1,46 @@
+package com.grecale.grecale_backend.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the SQL statements and entities loaded so far by the request to its response headers, before the body is written.
+ * Meant for development, enabled by grecale.metrics.request-statistics-header.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "grecale.metrics.request-statistics-header", havingValue = "true")
+public class RequestStatisticsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * header of the SQL statements count.
+     */
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+
+    /**
+     * header of the entities loaded count.
+     */
+    public static final String ENTITIES_LOADED_HEADER = "X-Entities-Loaded";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, Integer.toString(statistics.getStatements()));
+            response.getHeaders().set(ENTITIES_LOADED_HEADER, Integer.toString(statistics.getEntitiesLoaded()));
+        }
+        return body;
+    }
+}
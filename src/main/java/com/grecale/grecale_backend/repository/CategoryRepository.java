@@ -1,11 +1,38 @@
 package com.grecale.grecale_backend.repository;
 
 import com.grecale.grecale_backend.Domain.entities.Category;
-import org.springframework.data.repository.CrudRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface CategoryRepository extends CrudRepository<Category, Long> {
+public interface CategoryRepository extends GenericRepository<Category> {
+
+    /**
+     * category by its code, the result being kept in the query cache.
+     * @param code category code.
+     * @return found category.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findByCode(String code);
-}
 
+    /**
+     * all categories with their subcategories fetched in the same statement.
+     * @return categories ordered by id.
+     */
+    @EntityGraph(attributePaths = "subcategories")
+    @Query("select c from Category c order by c.id")
+    List<Category> findAllWithSubcategories();
+
+    /**
+     * one category with its subcategories fetched in the same statement.
+     * @param id category id.
+     * @return found category.
+     */
+    @EntityGraph(attributePaths = "subcategories")
+    Optional<Category> findWithSubcategoriesById(Long id);
+}
@@ -0,0 +1,49 @@
+package com.grecale.grecale_backend.repository;
+
+import com.grecale.grecale_backend.Domain.entities.ChangeLogEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    /**
+     * entries following the given high-water mark, in id order.
+     * @param id    high-water mark.
+     * @param limit maximum entry count.
+     * @return found entries.
+     */
+    List<ChangeLogEntry> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * clock of the database, which stamps the entries: the clocks of the nodes may drift apart.
+     * @return current timestamp of the database.
+     */
+    @Query("select current_timestamp")
+    Date currentTimestamp();
+
+    /**
+     * highest id among the entries written before the given date.
+     * @param date upper bound, exclusive.
+     * @return highest id, 0 without entry.
+     */
+    @Query("select coalesce(max(e.id), 0) from ChangeLogEntry e where e.createdDate < :date")
+    long findMaxIdCreatedBefore(Date date);
+
+    /**
+     * delete the entries written before the given date.
+     * @param date upper bound, exclusive.
+     * @return deleted entry count.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from ChangeLogEntry e where e.createdDate < :date")
+    int deleteCreatedBefore(Date date);
+}
@@ -0,0 +1,41 @@
+package com.grecale.grecale_backend.repository;
+
+import com.grecale.grecale_backend.Domain.entities.GenericEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Common repository of the {@link GenericEntity} hierarchy.
+ * @param <T> entity.
+ */
+@NoRepositoryBean
+public interface GenericRepository<T extends GenericEntity> extends CrudRepository<T, Long> {
+
+    /**
+     * JDBC fetch size used when streaming a whole table.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * keyset page: the entities following the given id, in id order.
+     * @param id    id of the last entity of the previous page.
+     * @param limit page size.
+     * @return found entities.
+     */
+    List<T> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * stream every entity in id order, reading rows from the JDBC cursor as they are consumed.
+     * Must be called within a transaction, and the stream closed.
+     * @return entity stream.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<T> streamAllByOrderByIdAsc();
+}
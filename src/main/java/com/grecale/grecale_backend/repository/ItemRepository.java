@@ -1,9 +1,85 @@
 package com.grecale.grecale_backend.repository;
 
+import com.grecale.grecale_backend.Domain.dto.ItemRow;
+import com.grecale.grecale_backend.Domain.dto.MenuExportRow;
 import com.grecale.grecale_backend.Domain.entities.Item;
-import org.springframework.data.repository.CrudRepository;
+import com.grecale.grecale_backend.Domain.entities.Subcategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
 @Repository
-public interface ItemRepository extends CrudRepository<Item, Long> {
-}
\ No newline at end of file
+public interface ItemRepository extends GenericRepository<Item> {
+
+    @Query("select new com.grecale.grecale_backend.Domain.dto.ItemRow(i.id, i.version, i.createdBy, i.lastModifiedBy, i.createdDate,"
+            + " i.lastModifiedDate, i.name, i.description, i.price, i.photoUrl, i.tag.label, i.tag.cssClass,"
+            + " i.category.id, i.subcategory.id) from Item i order by i.id")
+    List<ItemRow> findAllRows();
+
+    /**
+     * stream the menu lines, category by category, loose items before the subcategories in their position order.
+     * Must be called within a transaction, and the stream closed.
+     * @return export row stream.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select new com.grecale.grecale_backend.Domain.dto.MenuExportRow(c.name, s.name, i.name, i.price,"
+            + " i.description, i.tag.label) from Item i left join i.category c left join i.subcategory s"
+            + " order by c.id, coalesce(s.position, 0), s.id, i.id")
+    Stream<MenuExportRow> streamExportRows();
+
+    /**
+     * ids among the given ones that exist.
+     * @param ids wanted ids.
+     * @return found ids.
+     */
+    @Query("select i.id from Item i where i.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * move the given items to the subcategory in one statement.
+     * Pending changes are flushed first and the persistence context is cleared afterwards, reload what is still needed.
+     * Being a bulk statement, it bypasses the entity listeners and Envers: the version and modification date are
+     * set here, but the last modifier is left unchanged and no audit revision records the move.
+     * This is accepted for reassigning whole subcategories, where loading every item would cost one update each.
+     * @param subcategory target subcategory.
+     * @param ids         item ids.
+     * @return number of moved items.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Item i set i.subcategory = :subcategory, i.version = i.version + 1, i.lastModifiedDate = current_timestamp"
+            + " where i.id in :ids and (i.subcategory is null or i.subcategory <> :subcategory)")
+    int assignSubcategory(Subcategory subcategory, Collection<Long> ids);
+
+    /**
+     * unlink every item of the subcategory in one statement.
+     * Pending changes are flushed first and the persistence context is cleared afterwards, reload what is still needed.
+     * No audit revision records the unlinking, see {@link #assignSubcategory}.
+     * @param subcategoryId subcategory id.
+     * @return number of unlinked items.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Item i set i.subcategory = null, i.version = i.version + 1, i.lastModifiedDate = current_timestamp"
+            + " where i.subcategory.id = :subcategoryId")
+    int clearSubcategory(UUID subcategoryId);
+
+    /**
+     * unlink the items of the subcategory but the given ones in one statement.
+     * Pending changes are flushed first and the persistence context is cleared afterwards, reload what is still needed.
+     * No audit revision records the unlinking, see {@link #assignSubcategory}.
+     * @param subcategoryId subcategory id.
+     * @param keptIds       ids of the items staying in the subcategory, not empty.
+     * @return number of unlinked items.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Item i set i.subcategory = null, i.version = i.version + 1, i.lastModifiedDate = current_timestamp"
+            + " where i.subcategory.id = :subcategoryId and i.id not in :keptIds")
+    int clearSubcategoryExcept(UUID subcategoryId, Collection<Long> keptIds);
+}
@@ -0,0 +1,9 @@
+package com.grecale.grecale_backend.repository;
+
+import com.grecale.grecale_backend.Domain.entities.MenuImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MenuImportRepository extends JpaRepository<MenuImport, String> {
+}
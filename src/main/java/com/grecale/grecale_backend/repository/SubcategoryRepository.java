@@ -1,15 +1,44 @@
 package com.grecale.grecale_backend.repository;
 
 import com.grecale.grecale_backend.Domain.entities.Subcategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface SubcategoryRepository extends JpaRepository<Subcategory, UUID> {
 
+    /**
+     * subcategories of a category, the result being kept in the query cache.
+     * @param categoryId category id.
+     * @return found subcategories.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Subcategory> findByCategoryId(Long categoryId);
 
+    /**
+     * subcategories of the given categories with their items fetched in the same statement.
+     * Kept apart from the category fetch: joining both bags at once would multiply the rows.
+     * @param categoryIds category ids.
+     * @return found subcategories.
+     */
+    @EntityGraph(attributePaths = "items")
+    List<Subcategory> findWithItemsByCategoryIdIn(Collection<Long> categoryIds);
+
+    /**
+     * one subcategory with its items fetched in the same statement.
+     * @param id subcategory id.
+     * @return found subcategory.
+     */
+    @EntityGraph(attributePaths = "items")
+    Optional<Subcategory> findWithItemsById(UUID id);
+
 }
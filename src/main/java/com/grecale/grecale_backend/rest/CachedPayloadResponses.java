@@ -0,0 +1,77 @@
+package com.grecale.grecale_backend.rest;
+
+import com.grecale.grecale_backend.cache.CachedPayload;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Turns a {@link CachedPayload} into a response, honouring If-None-Match and Accept-Encoding.
+ */
+final class CachedPayloadResponses {
+
+    private static final String GZIP = "gzip";
+
+    private CachedPayloadResponses() {
+    }
+
+    /**
+     * build the response for a cached payload.
+     * The pre-serialized bytes are written as-is by the byte array message converter,
+     * the callers declaring the JSON schema of the body in their OpenAPI responses.
+     * @param payload        cached payload.
+     * @param ifNoneMatch    If-None-Match request header, may be null.
+     * @param acceptEncoding Accept-Encoding request header, may be null.
+     * @return 304 if the client copy is still valid, the (compressed) body otherwise.
+     */
+    static ResponseEntity<byte[]> of(CachedPayload payload, String ifNoneMatch, String acceptEncoding) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(payload.etag());
+        headers.setCacheControl(CacheControl.noCache());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+        if (matches(ifNoneMatch, payload.etag())) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = payload.identity();
+        if (payload.gzip() != null && accepts(acceptEncoding, GZIP)) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            body = payload.gzip();
+        }
+        headers.setContentLength(body.length);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaqueTag = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(coding)) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
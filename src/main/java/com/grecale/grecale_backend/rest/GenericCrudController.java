@@ -1,17 +1,46 @@
 package com.grecale.grecale_backend.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.grecale.grecale_backend.Domain.dto.BulkResult;
+import com.grecale.grecale_backend.Domain.dto.CursorPage;
 import com.grecale.grecale_backend.Domain.dto.GenericDto;
 import com.grecale.grecale_backend.Domain.entities.GenericEntity;
+import com.grecale.grecale_backend.cache.PayloadCache;
+import com.grecale.grecale_backend.exception.PreconditionFailedException;
 import com.grecale.grecale_backend.exception.ResourceNotFoundException;
 import com.grecale.grecale_backend.services.GenericCrudService;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * generic service controller.
@@ -22,6 +51,21 @@ import java.util.List;
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 public abstract class GenericCrudController<T extends GenericEntity, U extends GenericDto> {
 
+    /**
+     * media type of a JSON merge patch, RFC 7396.
+     */
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenericCrudController.class);
+
+    @Autowired
+    protected PayloadCache payloadCache;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    protected Validator validator;
 
     /**
      * {@link GenericCrudService#findById }.
@@ -33,7 +77,10 @@ public abstract class GenericCrudController<T extends GenericEntity, U extends G
     @GetMapping("/{id}")
     public ResponseEntity<U> findById(@PathVariable("id") long id) {
         U entityDto = this.getCrudService().findById(id);
-        return new ResponseEntity<U>(entityDto, entityDto != null ? HttpStatus.OK : HttpStatus.NO_CONTENT);
+        if (entityDto == null) {
+            return new ResponseEntity<U>(HttpStatus.NO_CONTENT);
+        }
+        return versioned(entityDto);
     }
     /**
      * {@link GenericCrudService#add }.
@@ -51,20 +98,42 @@ public abstract class GenericCrudController<T extends GenericEntity, U extends G
     /**
      * {@link GenericCrudService#update }.
      *
+     * @param ifMatch ETag of the version the client read, checked against the current one.
      * @param u the entity to create.
      * @return the created entity in DTO format.
      * @throws ResourceNotFoundException if error.
      */
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Successfully updated entity")})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully updated entity"),
+            @ApiResponse(responseCode = "412", description = "Entity modified since the given version")})
     @PutMapping("/{id}")
-    public ResponseEntity<U> update(@PathVariable("id") Long id, @Valid @RequestBody U u) throws ResourceNotFoundException {
-        System.out.println(id );
-        System.out.println(u );
-        U entityDto = this.getCrudService().update(id,u);
-        System.out.println(entityDto);
-
-        return new ResponseEntity<U>(entityDto, HttpStatus.OK);
+    public ResponseEntity<U> update(@PathVariable("id") Long id,
+                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                    @Valid @RequestBody U u) throws ResourceNotFoundException {
+        LOGGER.debug("Updating {} {} (If-Match {})", getClass().getSimpleName(), id, ifMatch);
+        U entityDto = this.getCrudService().update(id, u, parseVersion(ifMatch));
+        LOGGER.trace("Updated {} {} to version {}: {}", getClass().getSimpleName(), id, entityDto.getVersion(), entityDto);
+        return versioned(entityDto);
+    }
 
+    /**
+     * {@link GenericCrudService#patch }.
+     *
+     * @param id      the id of the entity to patch.
+     * @param ifMatch ETag of the version the client read, checked against the current one.
+     * @param patch   JSON merge patch holding the fields to change.
+     * @return the patched entity in DTO format.
+     * @throws ResourceNotFoundException if error.
+     * @throws IOException if the patch does not match the entity.
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully patched entity"),
+            @ApiResponse(responseCode = "412", description = "Entity modified since the given version")})
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<U> patch(@PathVariable("id") Long id,
+                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                   @RequestBody JsonNode patch) throws ResourceNotFoundException, IOException {
+        return versioned(this.getCrudService().patch(id, patch, parseVersion(ifMatch)));
     }
 
 
@@ -82,14 +151,190 @@ public abstract class GenericCrudController<T extends GenericEntity, U extends G
     }
 
     /**
-     * {@link GenericCrudService#findAll() }.
+     * {@link GenericCrudService#addAll }.
+     *
+     * @param entries the entities to create, an invalid one being reported as a 400 entry.
+     * @return the outcome of each entity, 207 when some failed.
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully created all entities"),
+            @ApiResponse(responseCode = "207", description = "Some entities were not created"),
+            @ApiResponse(responseCode = "400", description = "Too many entities")})
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkResult<U>>> addAll(@RequestBody List<U> entries) {
+        if (entries.size() > GenericCrudService.MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return bulkResponse(validated(entries, entry -> null, this.getCrudService()::addAll));
+    }
+
+    /**
+     * {@link GenericCrudService#updateAll }.
+     *
+     * @param entries the new state of the entities, each with its id and optionally the version it was read at,
+     *                an invalid one being reported as a 400 entry.
+     * @return the outcome of each entity, 207 when some failed.
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully updated all entities"),
+            @ApiResponse(responseCode = "207", description = "Some entities were not updated"),
+            @ApiResponse(responseCode = "400", description = "Too many entities")})
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkResult<U>>> updateAll(@RequestBody List<U> entries) {
+        if (entries.size() > GenericCrudService.MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return bulkResponse(validated(entries, GenericDto::getId, this.getCrudService()::updateAll));
+    }
+
+    /**
+     * {@link GenericCrudService#deleteAll }.
+     *
+     * @param ids the ids of the entities to delete.
+     * @return the outcome of each id, 207 when some failed.
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully deleted all entities"),
+            @ApiResponse(responseCode = "207", description = "Some entities were not found"),
+            @ApiResponse(responseCode = "400", description = "Too many entities")})
+    @DeleteMapping("/bulk")
+    public ResponseEntity<List<BulkResult<U>>> deleteAll(@RequestParam("ids") List<Long> ids) {
+        if (ids.size() > GenericCrudService.MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return bulkResponse(this.getCrudService().deleteAll(ids));
+    }
+
+    /**
+     * {@link GenericCrudService#findAll(Set) }, served from the pre-serialized {@link PayloadCache}.
+     *
+     * @param expand         associations to embed in full, e.g. {@code category} for items.
+     * @param ifNoneMatch    validator of the client copy, answered with 304 when still current.
+     * @param acceptEncoding codings accepted by the client.
      * @return the list of found applications. Can be empty.
      */
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Successfully retrieve list")})
+    @ApiResponses(value = {
+            // the items are documented as the DTO of the concrete controller, see OpenApiConfiguration
+            @ApiResponse(responseCode = "200", description = "Successfully retrieve list", content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = GenericDto.class)))),
+            @ApiResponse(responseCode = "304", description = "List not modified since the given ETag")})
     @GetMapping("/all")
-    public ResponseEntity<List<U>> findAll() {
-        List<U> entityDtoList = this.getCrudService().findAll();
-        return new ResponseEntity<>(entityDtoList, entityDtoList != null ? HttpStatus.OK : HttpStatus.NO_CONTENT);
+    public ResponseEntity<byte[]> findAll(@RequestParam(value = "expand", required = false) Set<String> expand,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        // unsupported values are dropped, so that they do not each pin a payload of their own
+        Set<String> expansions = new TreeSet<>(this.getCrudService().getExpansions());
+        expansions.retainAll(expand == null ? Set.of() : expand);
+        return CachedPayloadResponses.of(payloadCache.get(getClass().getName() + "#findAll" + expansions,
+                        () -> this.getCrudService().findAll(expansions)),
+                ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * {@link GenericCrudService#findPage }.
+     *
+     * @param after id of the last entry of the previous page, omitted for the first page.
+     * @param size  page size, at most {@value GenericCrudService#MAX_PAGE_SIZE}.
+     * @return the page and the cursor of the next one.
+     */
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Successfully retrieve page")})
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<U>> findPage(@RequestParam(value = "after", required = false) Long after,
+                                                  @RequestParam(value = "size", defaultValue = "50") int size) {
+        return ResponseEntity.ok(this.getCrudService().findPage(after, size));
+    }
+
+    /**
+     * {@link GenericCrudService#streamAll }.
+     * Entries are written as newline-delimited JSON while they are read from the database.
+     *
+     * @return the streamed entries.
+     */
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Successfully stream list")})
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream() {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            try {
+                this.getCrudService().streamAll(dto -> {
+                    try {
+                        writer.writeValue(out, dto);
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * validate each element of a bulk request as a single request would be, and write the valid ones only.
+     * {@code @Valid} on the list does not cascade to its elements.
+     */
+    private List<BulkResult<U>> validated(List<U> entries, Function<U, Long> idOf,
+                                          Function<List<U>, List<BulkResult<U>>> write) {
+        List<BulkResult<U>> results = new ArrayList<>(entries.size());
+        List<U> valid = new ArrayList<>(entries.size());
+        List<Integer> validIndexes = new ArrayList<>(entries.size());
+        for (int index = 0; index < entries.size(); index++) {
+            U entry = entries.get(index);
+            Set<ConstraintViolation<U>> violations = entry == null ? Set.of() : validator.validate(entry);
+            if (violations.isEmpty()) {
+                valid.add(entry);
+                validIndexes.add(index);
+            } else {
+                results.add(BulkResult.failed(index, idOf.apply(entry), HttpStatus.BAD_REQUEST, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "))));
+            }
+        }
+        if (!valid.isEmpty()) {
+            // the service numbers the valid elements only, mapped back to their position in the request
+            write.apply(valid).forEach(result -> results.add(new BulkResult<>(validIndexes.get(result.index()),
+                    result.id(), result.status(), result.entry(), result.error())));
+        }
+        results.sort(Comparator.comparingInt(BulkResult::index));
+        return results;
+    }
+
+    private ResponseEntity<List<BulkResult<U>>> bulkResponse(List<BulkResult<U>> results) {
+        boolean allSucceeded = results.stream().allMatch(BulkResult::isSuccess);
+        return ResponseEntity.status(allSucceeded ? HttpStatus.OK : HttpStatus.MULTI_STATUS).body(results);
+    }
+
+    /**
+     * 200 response carrying the entity version as ETag, to be sent back in {@code If-Match}.
+     */
+    private ResponseEntity<U> versioned(U entityDto) {
+        return ResponseEntity.ok().eTag(String.valueOf(entityDto.getVersion())).body(entityDto);
+    }
+
+    /**
+     * version held by an {@code If-Match} header.
+     *
+     * @param ifMatch header value, e.g. {@code "3"}.
+     * @return the version, null when the header is absent or a wildcard.
+     */
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match " + ifMatch + " is not a version of this entry");
+        }
     }
 
     /**
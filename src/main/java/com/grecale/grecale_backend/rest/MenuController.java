@@ -0,0 +1,94 @@
+package com.grecale.grecale_backend.rest;
+
+import com.grecale.grecale_backend.Domain.dto.MenuDto;
+import com.grecale.grecale_backend.Enum.MenuFileFormat;
+import com.grecale.grecale_backend.cache.PayloadCache;
+import com.grecale.grecale_backend.event.MenuChangeBroadcaster;
+import com.grecale.grecale_backend.services.MenuSnapshotService;
+import com.grecale.grecale_backend.services.importer.MenuExportService;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("api/v1/menu")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class MenuController {
+
+    private final MenuSnapshotService menuSnapshotService;
+    private final PayloadCache payloadCache;
+    private final MenuExportService menuExportService;
+    private final MenuChangeBroadcaster menuChangeBroadcaster;
+
+    /**
+     * {@link MenuSnapshotService#getMenu() }.
+     * @param ifNoneMatch    validator of the client copy, answered with 304 when still current.
+     * @param acceptEncoding codings accepted by the client.
+     * @return the whole menu tree, served from memory.
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieve menu",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = MenuDto.class))),
+            @ApiResponse(responseCode = "304", description = "Menu not modified since the given ETag")})
+    @GetMapping
+    public ResponseEntity<byte[]> getMenu(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return CachedPayloadResponses.of(payloadCache.get(getClass().getName() + "#getMenu", menuSnapshotService::getMenu),
+                ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * {@link MenuExportService#export }.
+     * @param format {@code xlsx} or {@code csv}.
+     * @return the menu file, streamed while it is read from the database.
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully export menu"),
+            @ApiResponse(responseCode = "400", description = "Unsupported file format")})
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(value = "format", defaultValue = "xlsx") String format) {
+        Optional<MenuFileFormat> fileFormat = MenuFileFormat.fromFileName("menu." + format);
+        if (fileFormat.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = outputStream -> menuExportService.export(fileFormat.get(), outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(fileFormat.get().getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("menu" + fileFormat.get().getExtension()).build().toString())
+                .body(body);
+    }
+
+    /**
+     * {@link MenuChangeBroadcaster#subscribe }.
+     * @param lastEventId id of the last event received, sent by the browser when reconnecting.
+     * @return a stream of the committed menu changes.
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully open the menu change stream"),
+            @ApiResponse(responseCode = "503", description = "Too many open streams")})
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return menuChangeBroadcaster.subscribe(lastEventId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build());
+    }
+}
@@ -0,0 +1,84 @@
+package com.grecale.grecale_backend.rest;
+
+import com.grecale.grecale_backend.Domain.dto.MenuImportJobDto;
+import com.grecale.grecale_backend.Enum.MenuFileFormat;
+import com.grecale.grecale_backend.services.importer.MenuImportJobService;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("api/v1/admin/menu-imports")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class MenuImportController {
+
+    private final MenuImportJobService menuImportJobService;
+
+    /**
+     * {@link MenuImportJobService#submit }.
+     * @param file XLSX or CSV menu file.
+     * @return the queued job, to be polled at its location.
+     * @throws IOException if the upload can not be read.
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import queued"),
+            @ApiResponse(responseCode = "400", description = "Unsupported file format"),
+            @ApiResponse(responseCode = "503", description = "Too many imports waiting")})
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<MenuImportJobDto> submit(@RequestParam("file") MultipartFile file) throws IOException {
+        Optional<MenuFileFormat> format = MenuFileFormat.fromFileName(file.getOriginalFilename());
+        if (format.isEmpty() || file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            MenuImportJobDto job = menuImportJobService.submit(file, format.get());
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(job.id()).toUri())
+                    .body(job);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * {@link MenuImportJobService#findById }.
+     * @param id job id.
+     * @return the job status and progress.
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieve import job"),
+            @ApiResponse(responseCode = "404", description = "Unknown or expired import job")})
+    @GetMapping("/{id}")
+    public ResponseEntity<MenuImportJobDto> findById(@PathVariable("id") UUID id) {
+        return ResponseEntity.of(menuImportJobService.findById(id));
+    }
+
+    /**
+     * {@link MenuImportJobService#findAll }.
+     * @return recent import jobs.
+     */
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Successfully retrieve import jobs")})
+    @GetMapping
+    public ResponseEntity<List<MenuImportJobDto>> findAll() {
+        return ResponseEntity.ok(menuImportJobService.findAll());
+    }
+}
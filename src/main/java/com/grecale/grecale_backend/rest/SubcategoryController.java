@@ -1,15 +1,22 @@
 package com.grecale.grecale_backend.rest;
 
 import com.grecale.grecale_backend.Domain.dto.SubcategoryDto;
+import com.grecale.grecale_backend.cache.PayloadCache;
 import com.grecale.grecale_backend.exception.ResourceNotFoundException;
 import com.grecale.grecale_backend.services.SubcategoryService;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -19,11 +26,17 @@ import java.util.UUID;
 public class SubcategoryController {
 
     private final SubcategoryService subcategoryService;
+    private final PayloadCache payloadCache;
 
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = SubcategoryDto.class)))),
+            @ApiResponse(responseCode = "304", description = "List not modified since the given ETag")})
     @GetMapping
-    public ResponseEntity<List<SubcategoryDto>> findAll() {
-        List<SubcategoryDto> subcategories = subcategoryService.findAll();
-        return ResponseEntity.ok(subcategories);
+    public ResponseEntity<byte[]> findAll(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return CachedPayloadResponses.of(payloadCache.get(getClass().getName() + "#findAll", subcategoryService::findAll),
+                ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/{id}")
@@ -1,48 +1,105 @@
 package com.grecale.grecale_backend.services;
 
 import com.grecale.grecale_backend.Domain.dto.CategoryDto;
-import com.grecale.grecale_backend.Domain.dto.SubcategoryDto;
 import com.grecale.grecale_backend.Domain.entities.Category;
 import com.grecale.grecale_backend.Domain.entities.Item;
 import com.grecale.grecale_backend.Domain.entities.Subcategory;
+import com.grecale.grecale_backend.mapper.CategoryMapper;
+import com.grecale.grecale_backend.mapper.EntityMapper;
+import com.grecale.grecale_backend.repository.GenericRepository;
 import com.grecale.grecale_backend.repository.CategoryRepository;
+import com.grecale.grecale_backend.repository.SubcategoryRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryService extends GenericCrudService<Category, CategoryDto> {
 
     private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final CategoryMapper categoryMapper;
 
     @Override
-    protected CrudRepository<Category, Long> getRepository() {
+    protected GenericRepository<Category> getRepository() {
         return categoryRepository;
     }
 
     @Override
-    protected CategoryDto convertToDto(Category entity) {
-        CategoryDto dto = super.convertToDto(entity);
-        if (dto == null || entity == null) {
-            return dto;
+    protected EntityMapper<Category, CategoryDto> getMapper() {
+        return categoryMapper;
+    }
+
+    /**
+     * Retrieve the whole category tree with a fixed number of statements:
+     * categories with their subcategories, then those subcategories with their items.
+     *
+     * @return the list of found categories. Can be empty.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryDto> findAll() {
+        List<Category> categories = categoryRepository.findAllWithSubcategories();
+        fetchSubcategoryItems(categories);
+        return categories.stream()
+                .map(this::convertToDto)
+                .toList();
+    }
+
+    /**
+     * Retrieve one category tree with a fixed number of statements.
+     *
+     * @param id the id of the wanted category.
+     * @return the found category. null otherwise.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CategoryDto findById(Long id) {
+        Category category = categoryRepository.findWithSubcategoriesById(id).orElse(null);
+        if (category == null) {
+            return null;
         }
+        fetchSubcategoryItems(List.of(category));
+        return this.convertToDto(category);
+    }
 
-        if (entity.getSubcategories() != null) {
-            List<SubcategoryDto> subcategoryDtos = entity.getSubcategories().stream()
-                    .map(subcategory -> toSubcategoryDto(subcategory, entity.getId()))
-                    .collect(Collectors.toList());
-            dto.setSubcategories(subcategoryDtos);
-        } else {
-            dto.setSubcategories(new ArrayList<>());
+    /**
+     * initialize the items of the subcategories of the given categories in one statement.
+     * The loaded subcategories are the instances already referenced by the categories,
+     * so the mapper then walks initialized collections only.
+     *
+     * @param categories categories loaded with their subcategories.
+     */
+    private void fetchSubcategoryItems(List<Category> categories) {
+        if (categories.stream().allMatch(category -> category.getSubcategories().isEmpty())) {
+            return;
         }
+        subcategoryRepository.findWithItemsByCategoryIdIn(categories.stream().map(Category::getId).toList());
+    }
 
-        return dto;
+    /**
+     * A category is removed with its subcategories and their items, but not with the items it holds directly,
+     * whose foreign key would fail the whole flush.
+     *
+     * @param entity category about to be deleted.
+     * @return the reason, null when no other item references the category.
+     */
+    @Override
+    protected String deleteConflict(Category entity) {
+        long items = entity.getItems().stream()
+                .filter(item -> item.getSubcategory() == null
+                        || !entity.getId().equals(item.getSubcategory().getCategory().getId()))
+                .count();
+        return items == 0 ? null : "category " + entity.getId() + " still holds " + items + " items";
+    }
+
+    @Override
+    protected CategoryDto convertToPatchDto(Category entity) {
+        return categoryMapper.toShallowDto(entity);
     }
 
     @Override
@@ -64,29 +121,4 @@ public class CategoryService extends GenericCrudService<Category, CategoryDto> {
         }
         return entity;
     }
-
-    private SubcategoryDto toSubcategoryDto(Subcategory subcategory, Long categoryId) {
-        if (subcategory == null) {
-            return null;
-        }
-
-        SubcategoryDto dto = new SubcategoryDto();
-        dto.setId(subcategory.getId());
-        dto.setSlug(subcategory.getSlug());
-        dto.setName(subcategory.getName());
-        dto.setPosition(subcategory.getPosition());
-        dto.setCategoryId(categoryId);
-
-        if (subcategory.getItems() != null) {
-            List<Long> itemIds = subcategory.getItems().stream()
-                    .map(Item::getId)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-            dto.setItemIds(itemIds);
-        } else {
-            dto.setItemIds(new ArrayList<>());
-        }
-
-        return dto;
-    }
 }
@@ -1,17 +1,42 @@
 package com.grecale.grecale_backend.services;
 
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.grecale.grecale_backend.Domain.dto.BulkResult;
+import com.grecale.grecale_backend.Domain.dto.CursorPage;
 import com.grecale.grecale_backend.Domain.dto.GenericDto;
 import com.grecale.grecale_backend.Domain.entities.GenericEntity;
+import com.grecale.grecale_backend.cache.EntityCacheResolver;
+import com.grecale.grecale_backend.cache.VersionedKeyGenerator;
+import com.grecale.grecale_backend.event.EntityChangedEvent;
+import com.grecale.grecale_backend.exception.PreconditionFailedException;
 import com.grecale.grecale_backend.exception.ResourceNotFoundException;
-import org.modelmapper.ModelMapper;
+import com.grecale.grecale_backend.mapper.EntityMapper;
+import com.grecale.grecale_backend.repository.GenericRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -21,11 +46,32 @@ import java.util.stream.StreamSupport;
  */
 public abstract class GenericCrudService<T extends GenericEntity, U extends GenericDto> {
 
+    /**
+     * upper bound of a keyset page.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * upper bound of the element count of a bulk request.
+     */
+    public static final int MAX_BULK_SIZE = 1000;
+
+    /**
+     * number of streamed entities after which the persistence context is cleared.
+     */
+    private static final int STREAM_CLEAR_INTERVAL = Integer.parseInt(GenericRepository.STREAM_FETCH_SIZE);
+
     private final Class<T> entityClazz;
     private final Class<U> dtoClazz;
 
     @Autowired
-    protected ModelMapper modelMapper;
+    protected ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @PersistenceContext
+    protected EntityManager entityManager;
 
     /**
      * constructor.
@@ -40,6 +86,7 @@ public abstract class GenericCrudService<T extends GenericEntity, U extends Gene
      *
      * @return the list of found applications. Can be empty.
      */
+    @Cacheable(cacheResolver = EntityCacheResolver.NAME, keyGenerator = VersionedKeyGenerator.NAME, sync = true)
     @Transactional(readOnly = true)
     public List<U> findAll() {
         Iterable entities = this.getRepository().findAll();
@@ -50,6 +97,68 @@ public abstract class GenericCrudService<T extends GenericEntity, U extends Gene
     }
 
 
+    /**
+     * Interrogates the database to retrieve all T entities, embedding the requested associations.
+     * Sub classes exposing a lean representation by default override this method.
+     *
+     * @param expand names of the associations to embed in full.
+     * @return the list of found applications. Can be empty.
+     */
+    @Cacheable(cacheResolver = EntityCacheResolver.NAME, keyGenerator = VersionedKeyGenerator.NAME, sync = true)
+    @Transactional(readOnly = true)
+    public List<U> findAll(Set<String> expand) {
+        return this.findAll();
+    }
+
+    /**
+     * names of the associations {@link #findAll(Set)} can embed, other requested ones being ignored.
+     * Sub classes supporting expansions override this method.
+     *
+     * @return supported expand options.
+     */
+    public Set<String> getExpansions() {
+        return Set.of();
+    }
+
+    /**
+     * Interrogates the database to retrieve one keyset page of T entities, ordered by id.
+     *
+     * @param after id of the last entity of the previous page, null for the first page.
+     * @param size  wanted page size, bounded by {@link #MAX_PAGE_SIZE}.
+     * @return the page, with the cursor of the next one if any.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<U> findPage(Long after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<T> entities = this.getRepository()
+                .findByIdGreaterThanOrderByIdAsc(after == null ? Long.MIN_VALUE : after, Limit.of(pageSize + 1));
+
+        boolean hasNext = entities.size() > pageSize;
+        List<U> content = entities.stream()
+                .limit(pageSize)
+                .map(this::convertToListDto)
+                .toList();
+        return new CursorPage<>(content, hasNext ? entities.get(pageSize - 1).getId() : null);
+    }
+
+    /**
+     * Stream all T entities in id order to the given consumer, reading them from a database cursor.
+     * The persistence context is cleared periodically, so memory stays flat whatever the table size.
+     *
+     * @param consumer receives each entity in DTO format.
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<U> consumer) {
+        int streamed = 0;
+        try (Stream<T> entities = this.getRepository().streamAllByOrderByIdAsc()) {
+            for (T entity : (Iterable<T>) entities::iterator) {
+                consumer.accept(this.convertToListDto(entity));
+                if (++streamed % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
 
     /**
      * Ask the database to create the given entity.
@@ -57,9 +166,12 @@ public abstract class GenericCrudService<T extends GenericEntity, U extends Gene
      * @param entityDto the entity to create.
      * @return the created entity in DTO format.
      */
+    @Transactional
     public U add(U entityDto) throws ResourceNotFoundException {
         T entity = this.convertToEntity(entityDto);
+        this.resolveReferences(entity);
         T created = (T) this.getRepository().save(entity);
+        eventPublisher.publishEvent(EntityChangedEvent.created(entityClazz, created.getId()));
         return this.convertToDto(created);
     }
 
@@ -70,16 +182,253 @@ public abstract class GenericCrudService<T extends GenericEntity, U extends Gene
      * @return the created entity in DTO format.
      * @throws ResourceNotFoundException if error
      */
+    @Transactional
     public U update(Long id ,U entityDto) throws ResourceNotFoundException {
-        if (id== null || this.findById(id) == null) {
-            throw new ResourceNotFoundException("no " + this.dtoClazz.getName() + " entry found with id " + entityDto.getId());
+        return this.update(id, entityDto, null);
+    }
+
+    /**
+     * Ask the database to update the given entity.
+     * The entity is loaded once and the DTO copied onto it, the changed columns being written by dirty checking.
+     *
+     * @param id              the id of the entity to update.
+     * @param entityDto       the new state of the entity.
+     * @param expectedVersion version the caller read last, the one of the DTO when null.
+     * @return the updated entity in list DTO format.
+     * @throws ResourceNotFoundException if no entity matches the id.
+     * @throws PreconditionFailedException if the entity changed since the expected version.
+     */
+    @Transactional
+    public U update(Long id, U entityDto, Long expectedVersion) throws ResourceNotFoundException {
+        T entity = this.findEntity(id);
+        this.checkVersion(entity, expectedVersion != null ? expectedVersion : entityDto.getVersion());
+        this.getMapper().updateEntity(entityDto, entity);
+        this.resolveReferencesOrDiscard(entity);
+        return this.flushUpdate(entity);
+    }
+
+    /**
+     * Apply a JSON merge patch (RFC 7396) to the given entity: only the fields present in the patch are changed,
+     * nested objects being merged the same way.
+     *
+     * @param id              the id of the entity to patch.
+     * @param patch           fields to change, a null value clearing the field.
+     * @param expectedVersion version the caller read last, null to skip the check.
+     * @return the patched entity in list DTO format.
+     * @throws ResourceNotFoundException if no entity matches the id.
+     * @throws PreconditionFailedException if the entity changed since the expected version.
+     * @throws IOException if the patch does not match the DTO.
+     */
+    @Transactional
+    public U patch(Long id, JsonNode patch, Long expectedVersion) throws ResourceNotFoundException, IOException {
+        T entity = this.findEntity(id);
+        this.checkVersion(entity, expectedVersion);
+        JsonNode merged = mergePatch(objectMapper.valueToTree(this.convertToPatchDto(entity)), patch);
+        U patched = objectMapper.treeToValue(merged, dtoClazz);
+        this.checkVersion(entity, patched.getVersion());
+        this.getMapper().updateEntity(patched, entity);
+        this.resolveReferencesOrDiscard(entity);
+        return this.flushUpdate(entity);
+    }
+
+    /**
+     * merge the patch onto the target as RFC 7396 defines it: objects are merged member by member,
+     * a null member removes the target one and any other value replaces it.
+     */
+    private JsonNode mergePatch(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode merged = target != null && target.isObject() ? (ObjectNode) target : objectMapper.createObjectNode();
+        patch.properties().forEach(member -> {
+            if (member.getValue().isNull()) {
+                merged.remove(member.getKey());
+            } else {
+                merged.set(member.getKey(), mergePatch(merged.get(member.getKey()), member.getValue()));
+            }
+        });
+        return merged;
+    }
+
+    private T findEntity(Long id) throws ResourceNotFoundException {
+        if (id == null) {
+            throw new ResourceNotFoundException("no " + this.dtoClazz.getName() + " entry found without id");
+        }
+        return (T) this.getRepository().findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("no " + this.dtoClazz.getName() + " entry found with id " + id));
+    }
+
+    /**
+     * resolve the references of a managed entity, discarding its pending changes if one of them does not exist:
+     * the checked exception does not roll the transaction back, and the flush would then fail on the foreign key.
+     */
+    private void resolveReferencesOrDiscard(T entity) throws ResourceNotFoundException {
+        try {
+            this.resolveReferences(entity);
+        } catch (ResourceNotFoundException e) {
+            entityManager.detach(entity);
+            throw e;
         }
-        entityDto.setId(id);
-        T entity = this.convertToEntity(entityDto);
-        T updated = (T) this.getRepository().save(entity);
-        return this.convertToDto(updated);
     }
 
+    private void checkVersion(T entity, Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != entity.getVersion()) {
+            throw new PreconditionFailedException(this.entityClazz.getSimpleName() + " " + entity.getId()
+                    + " is at version " + entity.getVersion() + ", not " + expectedVersion);
+        }
+    }
+
+    /**
+     * write the changes of a managed entity, the event being published only when a column actually changed.
+     */
+    private U flushUpdate(T entity) {
+        long version = entity.getVersion();
+        // the version is incremented by the flush, so that the returned DTO carries the new one
+        entityManager.flush();
+        if (entity.getVersion() != version) {
+            eventPublisher.publishEvent(EntityChangedEvent.updated(entityClazz, entity.getId()));
+        }
+        return this.convertToListDto(entity);
+    }
+
+
+    /**
+     * Ask the database to create the given entities in one transaction, the inserts being sent in JDBC batches.
+     *
+     * @param entityDtos the entities to create, at most {@link #MAX_BULK_SIZE}.
+     * @return the outcome of each entity, in request order.
+     */
+    @Transactional
+    public List<BulkResult<U>> addAll(List<U> entityDtos) {
+        List<BulkResult<U>> results = new ArrayList<>(entityDtos.size());
+        Map<Integer, T> created = new LinkedHashMap<>();
+        for (int index = 0; index < entityDtos.size(); index++) {
+            U entityDto = entityDtos.get(index);
+            if (entityDto == null) {
+                results.add(BulkResult.failed(index, null, HttpStatus.BAD_REQUEST, "entry is required"));
+                continue;
+            }
+            entityDto.setId(null);
+            T entity = this.convertToEntity(entityDto);
+            try {
+                this.resolveReferences(entity);
+            } catch (ResourceNotFoundException e) {
+                results.add(BulkResult.failed(index, null, HttpStatus.NOT_FOUND, e.getMessage()));
+                continue;
+            }
+            created.put(index, (T) this.getRepository().save(entity));
+        }
+        entityManager.flush();
+
+        created.forEach((index, entity) ->
+                results.add(BulkResult.succeeded(index, entity.getId(), HttpStatus.CREATED, this.convertToListDto(entity))));
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(EntityChangedEvent.created(entityClazz, null));
+        }
+        return sorted(results);
+    }
+
+    /**
+     * Ask the database to update the given entities in one transaction.
+     * The entities are loaded in one statement and updated by dirty checking;
+     * an entry missing or whose version is stale is reported and left unchanged, the others are written.
+     *
+     * @param entityDtos the new state of the entities, each with its id, at most {@link #MAX_BULK_SIZE}.
+     * @return the outcome of each entity, in request order.
+     */
+    @Transactional
+    public List<BulkResult<U>> updateAll(List<U> entityDtos) {
+        Map<Long, T> entities = this.findEntities(entityDtos.stream()
+                .filter(entityDto -> entityDto != null && entityDto.getId() != null)
+                .map(GenericDto::getId)
+                .toList());
+
+        List<BulkResult<U>> results = new ArrayList<>(entityDtos.size());
+        Map<Integer, T> updated = new LinkedHashMap<>();
+        Map<Long, Long> versions = new HashMap<>();
+        for (int index = 0; index < entityDtos.size(); index++) {
+            U entityDto = entityDtos.get(index);
+            Long id = entityDto == null ? null : entityDto.getId();
+            T entity = id == null ? null : entities.get(id);
+            if (id == null) {
+                results.add(BulkResult.failed(index, null, HttpStatus.BAD_REQUEST, "id is required"));
+            } else if (entity == null) {
+                results.add(BulkResult.failed(index, id, HttpStatus.NOT_FOUND, "no entry found with id " + id));
+            } else if (entityDto.getVersion() != null && entityDto.getVersion() != entity.getVersion()) {
+                results.add(BulkResult.failed(index, id, HttpStatus.PRECONDITION_FAILED,
+                        "entry is at version " + entity.getVersion() + ", not " + entityDto.getVersion()));
+            } else {
+                versions.putIfAbsent(id, entity.getVersion());
+                this.getMapper().updateEntity(entityDto, entity);
+                try {
+                    this.resolveReferencesOrDiscard(entity);
+                    updated.put(index, entity);
+                } catch (ResourceNotFoundException e) {
+                    results.add(BulkResult.failed(index, id, HttpStatus.NOT_FOUND, e.getMessage()));
+                }
+            }
+        }
+        entityManager.flush();
+
+        updated.forEach((index, entity) ->
+                results.add(BulkResult.succeeded(index, entity.getId(), HttpStatus.OK, this.convertToListDto(entity))));
+        if (updated.values().stream().anyMatch(entity -> entity.getVersion() != versions.get(entity.getId()))) {
+            eventPublisher.publishEvent(EntityChangedEvent.updated(entityClazz, null));
+        }
+        return sorted(results);
+    }
+
+    /**
+     * Delete the entities matching the given ids in one transaction, ids matching no entity being reported.
+     *
+     * @param ids the ids of the entities to delete, at most {@link #MAX_BULK_SIZE}.
+     * @return the outcome of each id, in request order.
+     */
+    @Transactional
+    public List<BulkResult<U>> deleteAll(List<Long> ids) {
+        Map<Long, T> entities = this.findEntities(ids);
+        Map<Long, String> conflicts = new HashMap<>();
+        entities.forEach((id, entity) -> {
+            String conflict = this.deleteConflict(entity);
+            if (conflict != null) {
+                conflicts.put(id, conflict);
+            }
+        });
+        List<T> deleted = entities.values().stream()
+                .filter(entity -> !conflicts.containsKey(entity.getId()))
+                .toList();
+        this.getRepository().deleteAll(deleted);
+        entityManager.flush();
+
+        List<BulkResult<U>> results = new ArrayList<>(ids.size());
+        for (int index = 0; index < ids.size(); index++) {
+            Long id = ids.get(index);
+            if (!entities.containsKey(id)) {
+                results.add(BulkResult.failed(index, id, HttpStatus.NOT_FOUND, "no entry found with id " + id));
+            } else if (conflicts.containsKey(id)) {
+                results.add(BulkResult.failed(index, id, HttpStatus.CONFLICT, conflicts.get(id)));
+            } else {
+                results.add(BulkResult.succeeded(index, id, HttpStatus.OK, null));
+            }
+        }
+        if (!deleted.isEmpty()) {
+            eventPublisher.publishEvent(EntityChangedEvent.deleted(entityClazz, null));
+        }
+        return results;
+    }
+
+    private Map<Long, T> findEntities(Collection<Long> ids) {
+        Map<Long, T> entities = new HashMap<>();
+        if (!ids.isEmpty()) {
+            this.getRepository().findAllById(ids).forEach(entity -> entities.put(entity.getId(), (T) entity));
+        }
+        return entities;
+    }
+
+    private static <U> List<BulkResult<U>> sorted(List<BulkResult<U>> results) {
+        results.sort(Comparator.comparingInt(BulkResult::index));
+        return results;
+    }
 
     /**
      * Interrogates the database to find an entity matching the id.
@@ -87,6 +436,7 @@ public abstract class GenericCrudService<T extends GenericEntity, U extends Gene
      * @param id the id of the wanted entity.
      * @return the found entity. deleteNull otherwise.
      */
+    @Cacheable(cacheResolver = EntityCacheResolver.NAME, keyGenerator = VersionedKeyGenerator.NAME, sync = true)
     public U findById(Long id) {
         T entity = (T) (this.getRepository().findById(id)).orElse(null);
         return this.convertToDto(entity);
@@ -104,18 +454,52 @@ public abstract class GenericCrudService<T extends GenericEntity, U extends Gene
         } catch (Exception e) {
             return false;
         }
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(entityClazz, id));
         return true;
     }
 
+    /**
+     * type of the entities managed by this service.
+     *
+     * @return entity class.
+     */
+    public Class<T> getEntityType() {
+        return entityClazz;
+    }
+
     /**
      * abstract class that return crudRepository auto wired in sub classes.
      *
      * @return crudRepository.
      */
-    protected abstract CrudRepository getRepository();
+    protected abstract GenericRepository<T> getRepository();
+
+    /**
+     * abstract class that return the generated mapper auto wired in sub classes.
+     *
+     * @return entity mapper.
+     */
+    protected abstract EntityMapper<T, U> getMapper();
 
-    public void setModelMapper(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
+    /**
+     * Replace the associations of an entity built or updated from a DTO, which only carry the referenced ids,
+     * with the stored entities. Sub classes whose DTOs reference other entities override this method.
+     *
+     * @param entity entity mapped from a DTO.
+     * @throws ResourceNotFoundException if a referenced entity does not exist.
+     */
+    protected void resolveReferences(T entity) throws ResourceNotFoundException {
+    }
+
+    /**
+     * Tell why the given entity can not be deleted, e.g. rows still referencing it.
+     * Sub classes whose entities are referenced without cascade override this method.
+     *
+     * @param entity entity about to be deleted.
+     * @return the reason, null when the entity can be deleted.
+     */
+    protected String deleteConflict(T entity) {
+        return null;
     }
 
     /**
@@ -126,11 +510,34 @@ public abstract class GenericCrudService<T extends GenericEntity, U extends Gene
      */
     protected U convertToDto(T entity) {
         if (entity != null) {
-            return modelMapper.map(entity, dtoClazz);
+            return getMapper().toDto(entity);
         }
         return null;
     }
 
+    /**
+     * Convert entity to the DTO Object used in pages and streams.
+     * Sub classes exposing a lean list representation override this method.
+     *
+     * @param entity map database table.
+     * @return dto object.
+     */
+    protected U convertToListDto(T entity) {
+        return this.convertToDto(entity);
+    }
+
+    /**
+     * Convert entity to the DTO Object a patch is merged onto.
+     * It only needs the fields the mapper copies back to the entity:
+     * sub classes whose list representation embeds more override this method.
+     *
+     * @param entity map database table.
+     * @return dto object.
+     */
+    protected U convertToPatchDto(T entity) {
+        return this.convertToListDto(entity);
+    }
+
     /**
      * Convert DTO Object to entity.
      *
@@ -139,7 +546,7 @@ public abstract class GenericCrudService<T extends GenericEntity, U extends Gene
      */
     protected T convertToEntity(U entityDto) {
         if (entityDto != null) {
-            return modelMapper.map(entityDto, entityClazz);
+            return getMapper().toEntity(entityDto);
         }
         return null;
     }
@@ -2,21 +2,97 @@ package com.grecale.grecale_backend.services;
 
 import com.grecale.grecale_backend.Domain.dto.ItemDto;
 import com.grecale.grecale_backend.Domain.entities.Item;
+import com.grecale.grecale_backend.exception.ResourceNotFoundException;
+import com.grecale.grecale_backend.mapper.EntityMapper;
+import com.grecale.grecale_backend.mapper.ItemMapper;
+import com.grecale.grecale_backend.repository.CategoryRepository;
+import com.grecale.grecale_backend.repository.GenericRepository;
 import com.grecale.grecale_backend.repository.ItemRepository;
-import org.springframework.data.repository.CrudRepository;
+import com.grecale.grecale_backend.repository.SubcategoryRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 public class ItemService extends GenericCrudService<Item, ItemDto> {
 
+    /**
+     * expand option embedding the full category in each item.
+     */
+    public static final String EXPAND_CATEGORY = "category";
+
     private final ItemRepository itemRepository;
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final ItemMapper itemMapper;
 
-    public ItemService(ItemRepository itemRepository) {
+    public ItemService(ItemRepository itemRepository, CategoryRepository categoryRepository,
+                       SubcategoryRepository subcategoryRepository, ItemMapper itemMapper) {
         this.itemRepository = itemRepository;
+        this.categoryRepository = categoryRepository;
+        this.subcategoryRepository = subcategoryRepository;
+        this.itemMapper = itemMapper;
     }
 
     @Override
-    protected CrudRepository<Item, Long> getRepository() {
+    protected GenericRepository<Item> getRepository() {
         return itemRepository;
     }
+
+    /**
+     * Items reference their category by id, read through a projection query.
+     * The full category graph is only embedded with the {@link #EXPAND_CATEGORY} option.
+     *
+     * @param expand names of the associations to embed in full.
+     * @return the list of found items. Can be empty.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDto> findAll(Set<String> expand) {
+        if (expand.contains(EXPAND_CATEGORY)) {
+            return super.findAll();
+        }
+        return itemRepository.findAllRows().stream()
+                .map(itemMapper::toLeanDto)
+                .toList();
+    }
+
+    /**
+     * Link the category and subcategory the mapper referenced by id to the stored ones (read from the
+     * second-level cache once loaded), so that the returned DTO embeds them in full.
+     *
+     * @param item item mapped from a DTO.
+     * @throws ResourceNotFoundException if the category or subcategory does not exist.
+     */
+    @Override
+    protected void resolveReferences(Item item) throws ResourceNotFoundException {
+        if (item.getCategory() != null) {
+            Long categoryId = item.getCategory().getId();
+            item.setCategory(categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new ResourceNotFoundException("no category found with id " + categoryId)));
+        }
+        if (item.getSubcategory() != null) {
+            UUID subcategoryId = item.getSubcategory().getId();
+            item.setSubcategory(subcategoryRepository.findById(subcategoryId)
+                    .orElseThrow(() -> new ResourceNotFoundException("no subcategory found with id " + subcategoryId)));
+        }
+    }
+
+    @Override
+    public Set<String> getExpansions() {
+        return Set.of(EXPAND_CATEGORY);
+    }
+
+    @Override
+    protected ItemDto convertToListDto(Item entity) {
+        return itemMapper.toLeanDto(entity);
+    }
+
+    @Override
+    protected EntityMapper<Item, ItemDto> getMapper() {
+        return itemMapper;
+    }
 }
\ No newline at end of file
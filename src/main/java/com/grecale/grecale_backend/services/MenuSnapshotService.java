@@ -0,0 +1,132 @@
+package com.grecale.grecale_backend.services;
+
+import com.grecale.grecale_backend.Domain.dto.ItemTagDto;
+import com.grecale.grecale_backend.Domain.dto.MenuCategoryDto;
+import com.grecale.grecale_backend.Domain.dto.MenuDto;
+import com.grecale.grecale_backend.Domain.dto.MenuItemDto;
+import com.grecale.grecale_backend.Domain.dto.MenuSubcategoryDto;
+import com.grecale.grecale_backend.Domain.entities.Category;
+import com.grecale.grecale_backend.Domain.entities.Item;
+import com.grecale.grecale_backend.Domain.entities.Subcategory;
+import com.grecale.grecale_backend.cache.DataVersion;
+import com.grecale.grecale_backend.repository.CategoryRepository;
+import com.grecale.grecale_backend.repository.ItemRepository;
+import com.grecale.grecale_backend.repository.SubcategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serves the whole menu from an immutable in-memory snapshot.
+ * The snapshot is rebuilt only after a mutation bumped the {@link DataVersion}, and swapped in atomically,
+ * so that reads never touch the database while the data is unchanged.
+ */
+@Service
+public class MenuSnapshotService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MenuSnapshotService.class);
+
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final ItemRepository itemRepository;
+    private final DataVersion dataVersion;
+    private final TransactionTemplate transactionTemplate;
+    // not a monitor: a virtual thread rebuilding from the database inside synchronized would pin its carrier
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile MenuDto snapshot;
+
+    public MenuSnapshotService(CategoryRepository categoryRepository, SubcategoryRepository subcategoryRepository,
+                               ItemRepository itemRepository, DataVersion dataVersion,
+                               PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.subcategoryRepository = subcategoryRepository;
+        this.itemRepository = itemRepository;
+        this.dataVersion = dataVersion;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * return the current menu snapshot, rebuilding it first if the data changed since it was built.
+     * @return menu tree.
+     */
+    public MenuDto getMenu() {
+        MenuDto current = snapshot;
+        if (current != null && current.version() == dataVersion.current()) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    private MenuDto rebuild() {
+        rebuildLock.lock();
+        try {
+            // the version is read before loading: a mutation committed meanwhile leaves the snapshot stale, never wrong
+            long version = dataVersion.current();
+            MenuDto current = snapshot;
+            if (current != null && current.version() == version) {
+                return current;
+            }
+
+            long start = System.nanoTime();
+            MenuDto rebuilt = transactionTemplate.execute(status -> buildMenu(version));
+            snapshot = rebuilt;
+            LOGGER.debug("Menu snapshot v{} rebuilt in {} ms", version, (System.nanoTime() - start) / 1_000_000);
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private MenuDto buildMenu(long version) {
+        Map<UUID, List<MenuItemDto>> itemsBySubcategory = new HashMap<>();
+        Map<Long, List<MenuItemDto>> looseItemsByCategory = new HashMap<>();
+        for (Item item : itemRepository.findAll()) {
+            MenuItemDto menuItem = toMenuItem(item);
+            if (item.getSubcategory() != null) {
+                itemsBySubcategory.computeIfAbsent(item.getSubcategory().getId(), key -> new ArrayList<>()).add(menuItem);
+            } else if (item.getCategory() != null) {
+                looseItemsByCategory.computeIfAbsent(item.getCategory().getId(), key -> new ArrayList<>()).add(menuItem);
+            }
+        }
+
+        Map<Long, List<MenuSubcategoryDto>> subcategoriesByCategory = new HashMap<>();
+        List<Subcategory> subcategories = subcategoryRepository.findAll();
+        subcategories.sort(Comparator.comparingInt(Subcategory::getPosition));
+        for (Subcategory subcategory : subcategories) {
+            subcategoriesByCategory.computeIfAbsent(subcategory.getCategory().getId(), key -> new ArrayList<>())
+                    .add(new MenuSubcategoryDto(subcategory.getId(), subcategory.getSlug(), subcategory.getName(),
+                            subcategory.getPosition(), itemsBySubcategory.getOrDefault(subcategory.getId(), List.of())));
+        }
+
+        List<MenuCategoryDto> categories = new ArrayList<>();
+        for (Category category : categoryRepository.findAll()) {
+            categories.add(new MenuCategoryDto(category.getId(), category.getCode(), category.getName(), category.getIconUrl(),
+                    subcategoriesByCategory.getOrDefault(category.getId(), List.of()),
+                    looseItemsByCategory.getOrDefault(category.getId(), List.of())));
+        }
+        categories.sort(Comparator.comparing(MenuCategoryDto::id));
+        return new MenuDto(version, categories);
+    }
+
+    private MenuItemDto toMenuItem(Item item) {
+        ItemTagDto tag = null;
+        if (item.getTag() != null) {
+            tag = new ItemTagDto();
+            tag.setLabel(item.getTag().getLabel());
+            tag.setCssClass(item.getTag().getCssClass());
+        }
+        return new MenuItemDto(item.getId(), item.getName(), item.getDescription(), item.getPrice(), item.getPhotoUrl(), tag);
+    }
+}
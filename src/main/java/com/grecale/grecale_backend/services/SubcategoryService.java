@@ -2,21 +2,28 @@ package com.grecale.grecale_backend.services;
 
 import com.grecale.grecale_backend.Domain.dto.SubcategoryDto;
 import com.grecale.grecale_backend.Domain.entities.Category;
-import com.grecale.grecale_backend.Domain.entities.Item;
 import com.grecale.grecale_backend.Domain.entities.Subcategory;
+import com.grecale.grecale_backend.cache.VersionedKeyGenerator;
+import com.grecale.grecale_backend.event.EntityChangedEvent;
 import com.grecale.grecale_backend.exception.ResourceNotFoundException;
+import com.grecale.grecale_backend.mapper.SubcategoryMapper;
 import com.grecale.grecale_backend.repository.CategoryRepository;
 import com.grecale.grecale_backend.repository.ItemRepository;
 import com.grecale.grecale_backend.repository.SubcategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 @Service
 @RequiredArgsConstructor
@@ -25,10 +32,18 @@ public class SubcategoryService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SubcategoryService.class);
 
+    /**
+     * cache of the subcategory reads.
+     */
+    public static final String CACHE = "subcategory";
+
     private final SubcategoryRepository subcategoryRepository;
     private final CategoryRepository categoryRepository;
     private final ItemRepository itemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SubcategoryMapper subcategoryMapper;
 
+    @Cacheable(cacheNames = CACHE, keyGenerator = VersionedKeyGenerator.NAME, sync = true)
     @Transactional(readOnly = true)
     public List<SubcategoryDto> findAll() {
         return subcategoryRepository.findAll().stream()
@@ -36,6 +51,7 @@ public class SubcategoryService {
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CACHE, keyGenerator = VersionedKeyGenerator.NAME, sync = true)
     @Transactional(readOnly = true)
     public SubcategoryDto findById(UUID id) throws ResourceNotFoundException {
         return toDto(resolveSubcategory(id));
@@ -45,6 +61,10 @@ public class SubcategoryService {
         Subcategory subcategory = new Subcategory();
         applyDto(subcategory, dto);
         Subcategory saved = subcategoryRepository.save(subcategory);
+        if (dto.getItemIds() != null) {
+            saved = syncItems(saved, dto.getItemIds());
+        }
+        eventPublisher.publishEvent(EntityChangedEvent.created(Subcategory.class, saved.getId()));
         return toDto(saved);
     }
 
@@ -52,17 +72,21 @@ public class SubcategoryService {
         Subcategory subcategory = resolveSubcategory(id);
         applyDto(subcategory, dto);
         Subcategory saved = subcategoryRepository.save(subcategory);
+        if (dto.getItemIds() != null) {
+            saved = syncItems(saved, dto.getItemIds());
+        }
+        eventPublisher.publishEvent(EntityChangedEvent.updated(Subcategory.class, id));
         return toDto(saved);
     }
 
     public void delete(UUID id) throws ResourceNotFoundException {
-        Subcategory subcategory = resolveSubcategory(id);
-        // Detach linked items before deleting to avoid foreign key issues
-        for (Item item : new ArrayList<>(subcategory.getItems())) {
-            item.setSubcategory(null);
-            itemRepository.save(item);
+        if (!subcategoryRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Subcategory not found with id " + id);
         }
-        subcategoryRepository.delete(subcategory);
+        // Detach linked items before deleting, so that the cascade does not remove them
+        itemRepository.clearSubcategory(id);
+        subcategoryRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(Subcategory.class, id));
     }
 
     private void applyDto(Subcategory subcategory, SubcategoryDto dto) throws ResourceNotFoundException {
@@ -77,51 +101,33 @@ public class SubcategoryService {
         Category category = categoryRepository.findById(dto.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id " + dto.getCategoryId()));
         subcategory.setCategory(category);
-
-        if (dto.getItemIds() != null) {
-            syncItems(subcategory, dto.getItemIds());
-        }
     }
 
-    private void syncItems(Subcategory subcategory, List<Long> requestedItemIds) {
-        Set<Long> targetIds = requestedItemIds == null ? Collections.emptySet() : new LinkedHashSet<>(requestedItemIds);
-
-        // Detach items no longer linked
-        for (Iterator<Item> iterator = subcategory.getItems().iterator(); iterator.hasNext(); ) {
-            Item current = iterator.next();
-            Long itemId = current.getId();
-            if (itemId == null || !targetIds.contains(itemId)) {
-                current.setSubcategory(null);
-                itemRepository.save(current);
-                iterator.remove();
-            }
-        }
+    /**
+     * link exactly the requested items to the saved subcategory with set based updates,
+     * so that the number of statements does not depend on the number of items.
+     * The updates clear the persistence context: the subcategory is returned reloaded with its items.
+     */
+    private Subcategory syncItems(Subcategory subcategory, List<Long> requestedItemIds) {
+        UUID subcategoryId = subcategory.getId();
+        Set<Long> targetIds = new LinkedHashSet<>(requestedItemIds);
+        targetIds.remove(null);
 
         if (targetIds.isEmpty()) {
-            return;
-        }
-
-        Iterable<Item> fetched = itemRepository.findAllById(targetIds);
-        List<Item> fetchedList = StreamSupport.stream(fetched.spliterator(), false).collect(Collectors.toList());
-
-        Set<Long> foundIds = fetchedList.stream()
-                .map(Item::getId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        for (Long targetId : targetIds) {
-            if (!foundIds.contains(targetId)) {
-                LOGGER.warn("Requested item with id {} not found while assigning to subcategory {}", targetId, subcategory.getId());
+            itemRepository.clearSubcategory(subcategoryId);
+        } else {
+            itemRepository.clearSubcategoryExcept(subcategoryId, targetIds);
+
+            Set<Long> foundIds = new HashSet<>(itemRepository.findExistingIds(targetIds));
+            for (Long targetId : targetIds) {
+                if (!foundIds.contains(targetId)) {
+                    LOGGER.warn("Requested item with id {} not found while assigning to subcategory {}", targetId, subcategoryId);
+                }
             }
-        }
 
-        for (Item item : fetchedList) {
-            item.setSubcategory(subcategory);
-            if (!subcategory.getItems().contains(item)) {
-                subcategory.getItems().add(item);
-            }
-            itemRepository.save(item);
+            itemRepository.assignSubcategory(subcategory, targetIds);
         }
+        return subcategoryRepository.findWithItemsById(subcategoryId).orElseThrow();
     }
 
     private Subcategory resolveSubcategory(UUID id) throws ResourceNotFoundException {
@@ -130,23 +136,6 @@ public class SubcategoryService {
     }
 
     private SubcategoryDto toDto(Subcategory subcategory) {
-        if (subcategory == null) {
-            return null;
-        }
-        SubcategoryDto dto = new SubcategoryDto();
-        dto.setId(subcategory.getId());
-        dto.setSlug(subcategory.getSlug());
-        dto.setName(subcategory.getName());
-        dto.setPosition(subcategory.getPosition());
-        dto.setCategoryId(subcategory.getCategory() != null ? subcategory.getCategory().getId() : null);
-        if (subcategory.getItems() != null) {
-            List<Long> itemIds = subcategory.getItems().stream()
-                    .map(Item::getId)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-            dto.setItemIds(itemIds);
-        }
-        return dto;
+        return subcategoryMapper.toDto(subcategory);
     }
 }
-
@@ -0,0 +1,122 @@
+package com.grecale.grecale_backend.services.importer;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Reads the menu rows of a CSV file (RFC 4180 quoting), one row at a time.
+ * The separator is a comma, or a semicolon when the header uses it, as spreadsheets do in most European locales.
+ */
+@Component
+public class CsvMenuRowReader {
+
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    /**
+     * read the rows of the given UTF-8 file.
+     *
+     * @param file     csv path.
+     * @param consumer receives each valid row.
+     * @return number of rows handed to the consumer.
+     * @throws IOException if the file can not be read.
+     */
+    public int read(Path file, Consumer<RawMenuRow> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(reader, consumer);
+        }
+    }
+
+    /**
+     * read the rows of the given reader.
+     *
+     * @param reader   csv content, not closed.
+     * @param consumer receives each valid row.
+     * @return number of rows handed to the consumer.
+     * @throws IOException if the content can not be read.
+     */
+    public int read(BufferedReader reader, Consumer<RawMenuRow> consumer) throws IOException {
+        reader.mark(1);
+        if (reader.read() != BYTE_ORDER_MARK) {
+            reader.reset();
+        }
+        String[] cells = new String[MenuRowCells.COLUMN_COUNT];
+        int rowNum = 0;
+        int emitted = 0;
+        char separator = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (separator == 0) {
+                separator = count(line, ';') > count(line, ',') ? ';' : ',';
+            }
+            Arrays.fill(cells, "");
+            String record = line;
+            while (!parse(record, separator, cells)) {
+                // an odd number of quotes: the quoted value goes on on the next line
+                String next = reader.readLine();
+                if (next == null) {
+                    throw new IOException("Unterminated quoted value in row " + rowNum);
+                }
+                record = record + "\n" + next;
+                Arrays.fill(cells, "");
+            }
+            if (!line.isBlank() && MenuRowCells.emit(rowNum, cells, consumer)) {
+                emitted++;
+            }
+            rowNum++;
+        }
+        return emitted;
+    }
+
+    /**
+     * split one record into the given cells, trimmed.
+     * @return false if the record ends inside a quoted value.
+     */
+    private static boolean parse(String record, char separator, String[] cells) {
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int column = 0;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == QUOTE && i + 1 < record.length() && record.charAt(i + 1) == QUOTE) {
+                    value.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == separator) {
+                store(cells, column++, value);
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            return false;
+        }
+        store(cells, column, value);
+        return true;
+    }
+
+    private static void store(String[] cells, int column, CharSequence value) {
+        if (column < cells.length) {
+            cells[column] = value.toString().trim();
+        }
+    }
+
+    private static int count(String line, char c) {
+        return (int) line.chars().filter(ch -> ch == c).count();
+    }
+}
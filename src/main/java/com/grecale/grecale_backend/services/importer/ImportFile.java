@@ -0,0 +1,68 @@
+package com.grecale.grecale_backend.services.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Import content spooled to a temporary file, optionally with the SHA-256 of the content computed on the way.
+ * Closing it deletes the file.
+ */
+public record ImportFile(Path path, String contentHash) implements AutoCloseable {
+
+    /**
+     * copy the given stream to a temporary file.
+     * @param inputStream content, not closed.
+     * @param suffix      file suffix.
+     * @return spooled file, without content hash.
+     * @throws IOException if the content can not be copied.
+     */
+    public static ImportFile spool(InputStream inputStream, String suffix) throws IOException {
+        return new ImportFile(copy(inputStream, suffix), null);
+    }
+
+    /**
+     * copy the given stream to a temporary file, hashing it on the way.
+     * @param inputStream content, not closed.
+     * @param suffix      file suffix.
+     * @return spooled file, with the SHA-256 of its content.
+     * @throws IOException if the content can not be copied.
+     */
+    public static ImportFile spoolHashed(InputStream inputStream, String suffix) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        Path path = copy(new DigestInputStream(inputStream, digest), suffix);
+        return new ImportFile(path, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static Path copy(InputStream inputStream, String suffix) throws IOException {
+        Path path = Files.createTempFile("menu-import-", suffix);
+        try {
+            Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+        return path;
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.grecale.grecale_backend.services.importer;
+
+import com.grecale.grecale_backend.Domain.dto.MenuExportRow;
+import com.grecale.grecale_backend.Enum.MenuFileFormat;
+import com.grecale.grecale_backend.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the menu in the layout read by the import, streaming the rows from a database cursor.
+ * The XLSX flavour keeps only {@link #XLSX_ROW_WINDOW} rows in memory, the others being flushed to a temporary file.
+ */
+@Service
+@RequiredArgsConstructor
+public class MenuExportService {
+
+    /**
+     * number of rows an XLSX export keeps in memory.
+     */
+    static final int XLSX_ROW_WINDOW = 100;
+
+    private static final String PRICE_FORMAT = "0.00";
+    private static final char CSV_SEPARATOR = ',';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final ItemRepository itemRepository;
+
+    /**
+     * write the whole menu to the given stream.
+     *
+     * @param format file format.
+     * @param out    target, not closed.
+     * @throws IOException if the target can not be written.
+     */
+    @Transactional(readOnly = true)
+    public void export(MenuFileFormat format, OutputStream out) throws IOException {
+        try (Stream<MenuExportRow> rows = itemRepository.streamExportRows()) {
+            switch (format) {
+                case XLSX -> writeXlsx(rows.iterator(), out);
+                case CSV -> writeCsv(rows.iterator(), out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeXlsx(Iterator<MenuExportRow> rows, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        try {
+            workbook.setCompressTempFiles(true);
+            CellStyle priceStyle = workbook.createCellStyle();
+            priceStyle.setDataFormat(workbook.createDataFormat().getFormat(PRICE_FORMAT));
+
+            Sheet sheet = workbook.createSheet("Menu");
+            Row header = sheet.createRow(0);
+            for (int column = 0; column < MenuRowCells.HEADERS.length; column++) {
+                header.createCell(column).setCellValue(MenuRowCells.HEADERS[column]);
+            }
+            int rowNum = 1;
+            while (rows.hasNext()) {
+                MenuExportRow menuRow = rows.next();
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(MenuRowCells.CATEGORY_COLUMN).setCellValue(nullToEmpty(menuRow.category()));
+                row.createCell(MenuRowCells.SUBCATEGORY_COLUMN).setCellValue(nullToEmpty(menuRow.subcategory()));
+                row.createCell(MenuRowCells.ITEM_NAME_COLUMN).setCellValue(nullToEmpty(menuRow.name()));
+                if (menuRow.price() != null) {
+                    row.createCell(MenuRowCells.PRICE_COLUMN).setCellValue(menuRow.price().doubleValue());
+                    row.getCell(MenuRowCells.PRICE_COLUMN).setCellStyle(priceStyle);
+                }
+                row.createCell(MenuRowCells.DESCRIPTION_COLUMN).setCellValue(nullToEmpty(menuRow.description()));
+                row.createCell(MenuRowCells.TAG_LABEL_COLUMN).setCellValue(nullToEmpty(menuRow.tagLabel()));
+            }
+            workbook.write(out);
+        } finally {
+            workbook.close();
+            workbook.dispose();
+        }
+    }
+
+    private void writeCsv(Iterator<MenuExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // lets spreadsheets detect the encoding, the import skips it
+        writer.write(BYTE_ORDER_MARK);
+        writeCsvLine(writer, MenuRowCells.HEADERS);
+        while (rows.hasNext()) {
+            MenuExportRow menuRow = rows.next();
+            writeCsvLine(writer, new String[]{menuRow.category(), menuRow.subcategory(), menuRow.name(),
+                    menuRow.price() == null ? null : menuRow.price().toPlainString(), menuRow.description(), menuRow.tagLabel()});
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(CSV_SEPARATOR);
+            }
+            writer.write(quote(nullToEmpty(values[i])));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String quote(String value) {
+        if (value.indexOf(CSV_SEPARATOR) < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,159 @@
+package com.grecale.grecale_backend.services.importer;
+
+import com.grecale.grecale_backend.Domain.dto.MenuImportJobDto;
+import com.grecale.grecale_backend.Enum.ImportStatus;
+import com.grecale.grecale_backend.Enum.MenuFileFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs uploaded menu imports on a background executor and keeps track of their progress.
+ * The last {@link #RETAINED_JOBS} jobs are kept in memory.
+ */
+@Service
+public class MenuImportJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MenuImportJobService.class);
+
+    private static final int RETAINED_JOBS = 20;
+
+    private final MenuImportService menuImportService;
+    private final XlsxMenuRowReader xlsxMenuRowReader;
+    private final CsvMenuRowReader csvMenuRowReader;
+    private final TaskExecutor menuImportExecutor;
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+
+    public MenuImportJobService(MenuImportService menuImportService, XlsxMenuRowReader xlsxMenuRowReader,
+                                CsvMenuRowReader csvMenuRowReader,
+                                @Qualifier("menuImportExecutor") TaskExecutor menuImportExecutor) {
+        this.menuImportService = menuImportService;
+        this.xlsxMenuRowReader = xlsxMenuRowReader;
+        this.csvMenuRowReader = csvMenuRowReader;
+        this.menuImportExecutor = menuImportExecutor;
+    }
+
+    /**
+     * queue the import of the given file.
+     * The upload is copied before returning, the request temporary file being gone once it completes.
+     *
+     * @param file   uploaded file.
+     * @param format file format.
+     * @return queued job.
+     * @throws IOException if the upload can not be copied.
+     * @throws RejectedExecutionException if too many imports are already waiting.
+     */
+    public MenuImportJobDto submit(MultipartFile file, MenuFileFormat format) throws IOException {
+        ImportFile importFile;
+        try (InputStream inputStream = file.getInputStream()) {
+            importFile = ImportFile.spool(inputStream, format.getExtension());
+        }
+        Job job = new Job(UUID.randomUUID(), file.getOriginalFilename());
+        jobs.put(job.id, job);
+        try {
+            menuImportExecutor.execute(() -> run(job, importFile, format));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            importFile.close();
+            throw e;
+        }
+        evictOldJobs();
+        return job.toDto();
+    }
+
+    /**
+     * @param id job id.
+     * @return the job, if still retained.
+     */
+    public Optional<MenuImportJobDto> findById(UUID id) {
+        return Optional.ofNullable(jobs.get(id)).map(Job::toDto);
+    }
+
+    /**
+     * @return retained jobs, most recent first.
+     */
+    public List<MenuImportJobDto> findAll() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing((Job job) -> job.submittedDate).reversed())
+                .map(Job::toDto)
+                .toList();
+    }
+
+    private void run(Job job, ImportFile importFile, MenuFileFormat format) {
+        job.status = ImportStatus.RUNNING;
+        try (importFile) {
+            // an upload is always applied, even with the content of the previous one: the menu may have been
+            // edited since, and the diff import then reverts those edits only
+            job.result = menuImportService.importMenu(consumer -> read(format, importFile, row -> {
+                job.rowsRead.incrementAndGet();
+                consumer.accept(row);
+            }));
+            job.status = ImportStatus.COMPLETED;
+        } catch (Exception e) {
+            LOGGER.error("Menu import {} of '{}' failed", job.id, job.fileName, e);
+            job.error = e.getMessage();
+            job.status = ImportStatus.FAILED;
+        } finally {
+            job.finishedDate = new Date();
+        }
+    }
+
+    private int read(MenuFileFormat format, ImportFile importFile, Consumer<RawMenuRow> consumer)
+            throws IOException {
+        return switch (format) {
+            case XLSX -> xlsxMenuRowReader.read(importFile.path(), consumer);
+            case CSV -> csvMenuRowReader.read(importFile.path(), consumer);
+        };
+    }
+
+    private void evictOldJobs() {
+        if (jobs.size() <= RETAINED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.finishedDate != null)
+                .sorted(Comparator.comparing((Job job) -> job.submittedDate))
+                .limit(jobs.size() - RETAINED_JOBS)
+                .forEach(job -> jobs.remove(job.id));
+    }
+
+    /**
+     * mutable state of a job, written by the import thread and read by the request threads.
+     */
+    private static final class Job {
+
+        private final UUID id;
+        private final String fileName;
+        private final Date submittedDate = new Date();
+        private final AtomicInteger rowsRead = new AtomicInteger();
+        private volatile ImportStatus status = ImportStatus.QUEUED;
+        private volatile MenuImportResult result;
+        private volatile String error;
+        private volatile Date finishedDate;
+
+        private Job(UUID id, String fileName) {
+            this.id = id;
+            this.fileName = fileName;
+        }
+
+        private MenuImportJobDto toDto() {
+            return new MenuImportJobDto(id, fileName, status, rowsRead.get(), result, error, submittedDate, finishedDate);
+        }
+    }
+}
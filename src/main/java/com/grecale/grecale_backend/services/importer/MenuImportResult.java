@@ -0,0 +1,28 @@
+package com.grecale.grecale_backend.services.importer;
+
+/**
+ * Outcome of a menu import, the counts covering categories, subcategories and items together.
+ */
+public record MenuImportResult(boolean skipped, int rows, int inserted, int updated, int deleted, long elapsedMillis) {
+
+    /**
+     * @return result of an import skipped because its content did not change.
+     */
+    public static MenuImportResult unchanged() {
+        return new MenuImportResult(true, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * @return true if the import touched the menu.
+     */
+    public boolean changed() {
+        return inserted + updated + deleted > 0;
+    }
+
+    /**
+     * @return imported rows per second.
+     */
+    public long rowsPerSecond() {
+        return elapsedMillis == 0 ? rows * 1000L : rows * 1000L / elapsedMillis;
+    }
+}
@@ -0,0 +1,345 @@
+package com.grecale.grecale_backend.services.importer;
+
+import com.grecale.grecale_backend.Domain.dto.ItemRow;
+import com.grecale.grecale_backend.Domain.entities.Category;
+import com.grecale.grecale_backend.Domain.entities.Item;
+import com.grecale.grecale_backend.Domain.entities.ItemTag;
+import com.grecale.grecale_backend.Domain.entities.MenuImport;
+import com.grecale.grecale_backend.Domain.entities.Subcategory;
+import com.grecale.grecale_backend.event.EntityChangedEvent;
+import com.grecale.grecale_backend.repository.CategoryRepository;
+import com.grecale.grecale_backend.repository.ItemRepository;
+import com.grecale.grecale_backend.repository.MenuImportRepository;
+import com.grecale.grecale_backend.repository.SubcategoryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Brings the menu in line with the rows of an import source, atomically.
+ * Rows are matched with the stored menu on {@code Category.code}, {@code Subcategory.slug} and the item name
+ * within its subcategory (or category), and only the rows that differ are written; what the source no longer
+ * contains is deleted at the end. Writes are flushed in chunks, so that Hibernate sends them as JDBC batches
+ * (see {@code hibernate.jdbc.batch_size}) and the persistence context is cleared between chunks.
+ */
+@Service
+public class MenuImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MenuImportService.class);
+
+    /**
+     * number of rows written per flush.
+     */
+    static final int CHUNK_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final ItemRepository itemRepository;
+    private final MenuImportRepository menuImportRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public MenuImportService(CategoryRepository categoryRepository, SubcategoryRepository subcategoryRepository,
+                             ItemRepository itemRepository, MenuImportRepository menuImportRepository,
+                             ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.subcategoryRepository = subcategoryRepository;
+        this.itemRepository = itemRepository;
+        this.menuImportRepository = menuImportRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * import the rows of the given source, unless its content was already imported from there.
+     *
+     * @param sourceName  name of the source, e.g. the file path.
+     * @param contentHash hash of the source content.
+     * @param source      menu rows.
+     * @return import figures.
+     * @throws IOException if the source can not be read.
+     */
+    public MenuImportResult importMenu(String sourceName, String contentHash, MenuRowSource source) throws IOException {
+        boolean unchanged = menuImportRepository.findById(sourceName)
+                .map(last -> last.getContentHash().equals(contentHash))
+                .orElse(false);
+        if (unchanged) {
+            LOGGER.info("Menu source '{}' unchanged since its last import - skipping", sourceName);
+            return MenuImportResult.unchanged();
+        }
+        return runImport(source, new MenuImport(sourceName, contentHash, new Date()));
+    }
+
+    /**
+     * bring the menu in line with the rows of the given source.
+     * An empty source leaves the menu untouched.
+     *
+     * @param source menu rows.
+     * @return import figures.
+     * @throws IOException if the source can not be read.
+     */
+    public MenuImportResult importMenu(MenuRowSource source) throws IOException {
+        return runImport(source, null);
+    }
+
+    /**
+     * run the whole import in one transaction: the chunks only flush and clear the persistence context,
+     * and readers keep seeing the previous menu until everything commits, or nothing if it fails.
+     */
+    private MenuImportResult runImport(MenuRowSource source, MenuImport menuImport) throws IOException {
+        long start = System.nanoTime();
+        try {
+            MenuImportResult result = transactionTemplate.execute(status -> {
+                ImportRun run = new ImportRun();
+                int rows = readSource(source, run);
+                run.flush();
+                if (rows > 0) {
+                    run.deleteRemaining();
+                }
+                if (menuImport != null) {
+                    menuImportRepository.save(menuImport);
+                }
+                if (run.inserted + run.updated + run.deleted > 0) {
+                    // delivered to the caches once the transaction commits
+                    eventPublisher.publishEvent(EntityChangedEvent.updated(Item.class, null));
+                }
+                return new MenuImportResult(false, rows, run.inserted, run.updated, run.deleted,
+                        (System.nanoTime() - start) / 1_000_000);
+            });
+            LOGGER.info("Menu import completed: {} rows, {} inserted, {} updated, {} deleted in {} ms ({} rows/s)",
+                    result.rows(), result.inserted(), result.updated(), result.deleted(),
+                    result.elapsedMillis(), result.rowsPerSecond());
+            return result;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static int readSource(MenuRowSource source, ImportRun run) {
+        try {
+            return source.read(run::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * key of an item within the menu.
+     */
+    private static String itemKey(String scope, String name) {
+        return scope + "|" + name;
+    }
+
+    /**
+     * state of one import: the pending chunk, the stored menu not matched yet and what was matched so far.
+     * Categories and subcategories stay detached between chunks, items only need their ids.
+     */
+    private final class ImportRun {
+
+        private final List<RawMenuRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final Map<String, Category> categoriesByCode = new HashMap<>();
+        private final Map<String, Subcategory> subcategoriesBySlug = new HashMap<>();
+        private final Map<String, Deque<ItemRow>> storedItemsByKey = new HashMap<>();
+        private final Set<String> matchedCategories = new HashSet<>();
+        private final Set<String> matchedSubcategories = new HashSet<>();
+        private final Map<String, Integer> subcategoryCountByCode = new HashMap<>();
+        private int inserted;
+        private int updated;
+        private int deleted;
+
+        private ImportRun() {
+            Map<Long, String> codesById = new HashMap<>();
+            for (Category category : categoryRepository.findAll()) {
+                categoriesByCode.put(category.getCode(), category);
+                codesById.put(category.getId(), category.getCode());
+            }
+            Map<UUID, String> slugsById = new HashMap<>();
+            for (Subcategory subcategory : subcategoryRepository.findAll()) {
+                subcategoriesBySlug.put(subcategory.getSlug(), subcategory);
+                slugsById.put(subcategory.getId(), subcategory.getSlug());
+            }
+            for (ItemRow item : itemRepository.findAllRows()) {
+                String scope = item.subcategoryId() != null ? slugsById.get(item.subcategoryId()) : codesById.get(item.categoryId());
+                storedItemsByKey.computeIfAbsent(itemKey(scope, item.name()), key -> new ArrayDeque<>()).add(item);
+            }
+            entityManager.clear();
+        }
+
+        private void add(RawMenuRow row) {
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            for (RawMenuRow row : chunk) {
+                merge(row);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            chunk.clear();
+        }
+
+        private void merge(RawMenuRow row) {
+            try {
+                Category category = mergeCategory(MenuRowNormalizer.slugify(row.category()), row.category());
+
+                Subcategory subcategory = null;
+                if (row.subcategory() != null && !row.subcategory().isBlank()) {
+                    subcategory = mergeSubcategory(category,
+                            MenuRowNormalizer.subcategorySlug(category.getCode(), row.subcategory()), row.subcategory());
+                }
+
+                String scope = subcategory != null ? subcategory.getSlug() : category.getCode();
+                Deque<ItemRow> stored = storedItemsByKey.get(itemKey(scope, row.name()));
+                ItemRow storedItem = stored == null ? null : stored.poll();
+                if (storedItem == null) {
+                    Item item = new Item();
+                    item.setName(row.name());
+                    item.setPhotoUrl(null);
+                    applyRow(item, row, category, subcategory);
+                    entityManager.persist(item);
+                    inserted++;
+                } else if (differs(storedItem, row, category, subcategory)) {
+                    applyRow(entityManager.find(Item.class, storedItem.id()), row, category, subcategory);
+                    updated++;
+                }
+            } catch (RuntimeException rowException) {
+                LOGGER.error("Failed to process menu row for category '{}' / item '{}'", row.category(), row.name(), rowException);
+            }
+        }
+
+        private Category mergeCategory(String code, String name) {
+            Category category = categoriesByCode.get(code);
+            if (category == null) {
+                category = new Category();
+                category.setCode(code);
+                category.setName(name);
+                category.setIconUrl(null);
+                entityManager.persist(category);
+                categoriesByCode.put(code, category);
+                inserted++;
+            } else if (!matchedCategories.contains(code) && !Objects.equals(category.getName(), name)) {
+                entityManager.find(Category.class, category.getId()).setName(name);
+                category.setName(name);
+                updated++;
+            }
+            matchedCategories.add(code);
+            return category;
+        }
+
+        private Subcategory mergeSubcategory(Category category, String slug, String name) {
+            Subcategory subcategory = subcategoriesBySlug.get(slug);
+            if (subcategory != null && matchedSubcategories.contains(slug)) {
+                return subcategory;
+            }
+            int position = subcategoryCountByCode.merge(category.getCode(), 1, Integer::sum);
+            if (subcategory == null) {
+                subcategory = new Subcategory();
+                subcategory.setSlug(slug);
+                subcategory.setName(name);
+                subcategory.setPosition(position);
+                subcategory.setCategory(category);
+                entityManager.persist(subcategory);
+                subcategoriesBySlug.put(slug, subcategory);
+                inserted++;
+            } else if (!Objects.equals(subcategory.getName(), name) || subcategory.getPosition() != position
+                    || !Objects.equals(subcategory.getCategory().getId(), category.getId())) {
+                Subcategory managed = entityManager.find(Subcategory.class, subcategory.getId());
+                managed.setName(name);
+                managed.setPosition(position);
+                managed.setCategory(entityManager.getReference(Category.class, category.getId()));
+                subcategory.setName(name);
+                subcategory.setPosition(position);
+                subcategory.setCategory(category);
+                updated++;
+            }
+            matchedSubcategories.add(slug);
+            return subcategory;
+        }
+
+        private boolean differs(ItemRow stored, RawMenuRow row, Category category, Subcategory subcategory) {
+            BigDecimal price = MenuRowNormalizer.parsePrice(row.price());
+            ItemTag tag = MenuRowNormalizer.toItemTag(row.tagLabel());
+            return !Objects.equals(stored.description(), row.description())
+                    || stored.price() == null || stored.price().compareTo(price) != 0
+                    || !Objects.equals(stored.tagLabel(), tag == null ? null : tag.getLabel())
+                    || !Objects.equals(stored.categoryId(), category.getId())
+                    || !Objects.equals(stored.subcategoryId(), subcategory == null ? null : subcategory.getId());
+        }
+
+        private void applyRow(Item item, RawMenuRow row, Category category, Subcategory subcategory) {
+            item.setDescription(row.description());
+            item.setPrice(MenuRowNormalizer.parsePrice(row.price()));
+            item.setCategory(category);
+            item.setSubcategory(subcategory);
+            item.setTag(MenuRowNormalizer.toItemTag(row.tagLabel()));
+        }
+
+        /**
+         * delete the stored rows the source no longer contains, items first for the foreign keys.
+         * The entities are loaded and removed chunk by chunk rather than by bulk statements,
+         * so that each deletion goes through the entity listeners and Envers like the ones of the API.
+         */
+        private void deleteRemaining() {
+            List<Long> itemIds = storedItemsByKey.values().stream()
+                    .flatMap(Collection::stream)
+                    .map(ItemRow::id)
+                    .toList();
+            List<UUID> subcategoryIds = subcategoriesBySlug.values().stream()
+                    .filter(subcategory -> !matchedSubcategories.contains(subcategory.getSlug()))
+                    .map(Subcategory::getId)
+                    .toList();
+            List<Long> categoryIds = categoriesByCode.values().stream()
+                    .filter(category -> !matchedCategories.contains(category.getCode()))
+                    .map(Category::getId)
+                    .toList();
+            deleted += remove(Item.class, itemIds);
+            deleted += remove(Subcategory.class, subcategoryIds);
+            deleted += remove(Category.class, categoryIds);
+        }
+
+        private <E> int remove(Class<E> entityType, List<?> ids) {
+            int count = 0;
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                List<E> entities = entityManager
+                        .createQuery("select e from " + entityType.getSimpleName() + " e where e.id in :ids", entityType)
+                        .setParameter("ids", ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())))
+                        .getResultList();
+                entities.forEach(entityManager::remove);
+                entityManager.flush();
+                entityManager.clear();
+                count += entities.size();
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.grecale.grecale_backend.services.importer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Consumer;
+
+/**
+ * Column layout of the menu files, shared by the readers and the writers of each format.
+ */
+final class MenuRowCells {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MenuRowCells.class);
+
+    static final int CATEGORY_COLUMN = 0;
+    static final int SUBCATEGORY_COLUMN = 1;
+    static final int ITEM_NAME_COLUMN = 2;
+    static final int PRICE_COLUMN = 3;
+    static final int DESCRIPTION_COLUMN = 4;
+    static final int TAG_LABEL_COLUMN = 5;
+    static final int COLUMN_COUNT = 6;
+
+    /**
+     * header row of the files, indexed by column.
+     */
+    static final String[] HEADERS = {"Categoria", "Sottocategoria", "Nome", "Prezzo", "Descrizione", "Tag"};
+
+    private MenuRowCells() {
+    }
+
+    /**
+     * hand the row made of the given trimmed cells to the consumer, unless it is the header or incomplete.
+     * @param rowNum   zero based row number, the first row being the header.
+     * @param cells    cell values, {@link #COLUMN_COUNT} long.
+     * @param consumer receives the row.
+     * @return true if the row was handed to the consumer.
+     */
+    static boolean emit(int rowNum, String[] cells, Consumer<RawMenuRow> consumer) {
+        if (rowNum == 0) {
+            return false;
+        }
+        if (cells[CATEGORY_COLUMN].isBlank()) {
+            LOGGER.debug("Skipping row {} - empty category", rowNum);
+            return false;
+        }
+        if (cells[ITEM_NAME_COLUMN].isBlank()) {
+            LOGGER.debug("Skipping row {} - empty item name", rowNum);
+            return false;
+        }
+        consumer.accept(new RawMenuRow(cells[CATEGORY_COLUMN], cells[SUBCATEGORY_COLUMN], cells[ITEM_NAME_COLUMN],
+                cells[PRICE_COLUMN], cells[DESCRIPTION_COLUMN], cells[TAG_LABEL_COLUMN]));
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+package com.grecale.grecale_backend.services.importer;
+
+import com.grecale.grecale_backend.Domain.entities.ItemTag;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Turns the raw cell values of an imported menu row into entity values.
+ */
+public final class MenuRowNormalizer {
+
+    private static final String DEFAULT_TAG_CSS_CLASS = "menu-tag-default";
+
+    private MenuRowNormalizer() {
+    }
+
+    /**
+     * parse a price cell, tolerating currency signs and decimal commas.
+     * @param priceText cell value.
+     * @return price with two decimals, zero when missing.
+     */
+    public static BigDecimal parsePrice(String priceText) {
+        if (priceText == null || priceText.isBlank() || priceText.equalsIgnoreCase("N/A")) {
+            return new BigDecimal("0.00");
+        }
+
+        String numeric = priceText
+                .replaceAll("[^0-9.,]", "")
+                .replace(',', '.');
+
+        if (numeric.isBlank() || !numeric.matches(".*\\d.*")) {
+            return new BigDecimal("0.00");
+        }
+
+        BigDecimal value = new BigDecimal(numeric);
+        return value.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * lower case, accent free, dash separated form of the given label.
+     * @param source label.
+     * @return slug, never empty.
+     */
+    public static String slugify(String source) {
+        String normalized = Normalizer.normalize(source.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        String withoutAccents = normalized.replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+        String sanitized = withoutAccents.replaceAll("[^a-z0-9]+", "-");
+        sanitized = sanitized.replaceAll("^-+|-+$", "");
+        return sanitized.isEmpty() ? "categoria" : sanitized;
+    }
+
+    /**
+     * slug of a subcategory, unique across categories.
+     * @param categoryCode code of the owning category.
+     * @param subcategoryName subcategory label.
+     * @return slug.
+     */
+    public static String subcategorySlug(String categoryCode, String subcategoryName) {
+        return slugify(categoryCode + "-" + subcategoryName);
+    }
+
+    /**
+     * tag of an item, styled with the default css class.
+     * @param label tag cell value.
+     * @return tag, null when the cell is blank.
+     */
+    public static ItemTag toItemTag(String label) {
+        if (label == null || label.isBlank()) {
+            return null;
+        }
+        return new ItemTag(label, DEFAULT_TAG_CSS_CLASS);
+    }
+}
@@ -0,0 +1,19 @@
+package com.grecale.grecale_backend.services.importer;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Pushes the rows of a menu file, one at a time, to a consumer.
+ */
+@FunctionalInterface
+public interface MenuRowSource {
+
+    /**
+     * read the whole source.
+     * @param consumer receives each valid row.
+     * @return number of rows handed to the consumer.
+     * @throws IOException if the source can not be read.
+     */
+    int read(Consumer<RawMenuRow> consumer) throws IOException;
+}
@@ -0,0 +1,7 @@
+package com.grecale.grecale_backend.services.importer;
+
+/**
+ * One menu line as read from an import file, cell values trimmed but not yet interpreted.
+ */
+public record RawMenuRow(String category, String subcategory, String name, String price, String description, String tagLabel) {
+}
@@ -0,0 +1,108 @@
+package com.grecale.grecale_backend.services.importer;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates a menu of any size, with the tag, description and price distributions of a real one.
+ * Rows are produced while read, so that large menus are never held in memory.
+ * The same settings always give the same rows.
+ */
+public class SyntheticMenuSource implements MenuRowSource {
+
+    private static final String[] CATEGORIES = {"Antipasti", "Primi", "Secondi", "Pizze", "Contorni", "Dolci",
+            "Caffetteria", "Birre", "Vini", "Cocktail", "Analcolici", "Distillati"};
+    private static final String[] DISHES = {"Tagliere", "Bruschetta", "Risotto", "Tagliatelle", "Gnocchi", "Filetto",
+            "Tartare", "Insalata", "Focaccia", "Panino", "Calice", "Spritz", "Tiramisù", "Crostata", "Centrifugato"};
+    private static final String[] INGREDIENTS = {"pomodoro", "mozzarella di bufala", "basilico", "funghi porcini",
+            "tartufo nero", "prosciutto crudo", "speck", "radicchio", "gorgonzola", "noci", "rucola", "grana padano",
+            "salsiccia", "zucca", "limone", "menta", "pistacchio", "cioccolato fondente", "mascarpone", "frutti di bosco"};
+    // most items carry no tag, the others one of a few labels, the first ones being the most common
+    private static final String[] TAGS = {"Novità", "Vegetariano", "Senza glutine", "Vegano", "Piccante", "Consigliato"};
+    private static final double TAGGED_SHARE = 0.3;
+    private static final double WITHOUT_DESCRIPTION_SHARE = 0.2;
+    private static final double WITHOUT_SUBCATEGORY_SHARE = 0.1;
+
+    private final int categories;
+    private final int subcategoriesPerCategory;
+    private final int items;
+    private final long seed;
+
+    public SyntheticMenuSource(int categories, int subcategoriesPerCategory, int items, long seed) {
+        if (categories < 1 || subcategoriesPerCategory < 0 || items < 0) {
+            throw new IllegalArgumentException("Invalid synthetic menu size: " + categories + " categories, "
+                    + subcategoriesPerCategory + " subcategories per category, " + items + " items");
+        }
+        this.categories = categories;
+        this.subcategoriesPerCategory = subcategoriesPerCategory;
+        this.items = items;
+        this.seed = seed;
+    }
+
+    /**
+     * hash of the settings, standing for the content of the rows.
+     * @return content hash.
+     */
+    public String contentHash() {
+        return String.format(Locale.ROOT, "synthetic-%d-%d-%d-%d", categories, subcategoriesPerCategory, items, seed);
+    }
+
+    @Override
+    public int read(Consumer<RawMenuRow> consumer) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < items; i++) {
+            int category = skewed(random, categories);
+            String subcategory = subcategoriesPerCategory == 0 || random.nextDouble() < WITHOUT_SUBCATEGORY_SHARE
+                    ? "" : "Selezione " + (skewed(random, subcategoriesPerCategory) + 1);
+            consumer.accept(new RawMenuRow(categoryName(category), subcategory, itemName(random, i),
+                    price(random, category), description(random), tag(random)));
+        }
+        return items;
+    }
+
+    /**
+     * index in [0, bound), the lower ones being drawn more often, as the large sections of a menu.
+     */
+    private static int skewed(SplittableRandom random, int bound) {
+        double uniform = random.nextDouble();
+        return (int) (uniform * uniform * bound);
+    }
+
+    private static String categoryName(int category) {
+        String name = CATEGORIES[category % CATEGORIES.length];
+        return category < CATEGORIES.length ? name : name + " " + (category / CATEGORIES.length + 1);
+    }
+
+    private static String itemName(SplittableRandom random, int index) {
+        // the index keeps the names unique within their subcategory, as the import matches items by name
+        return DISHES[random.nextInt(DISHES.length)] + " " + INGREDIENTS[random.nextInt(INGREDIENTS.length)] + " " + index;
+    }
+
+    private static String price(SplittableRandom random, int category) {
+        // whole or half euros, drinks and desserts being cheaper than dishes
+        int halfEuros = category % CATEGORIES.length < 5 ? random.nextInt(10, 60) : random.nextInt(3, 24);
+        return String.format(Locale.ROOT, "€ %d,%s", halfEuros / 2, halfEuros % 2 == 0 ? "00" : "50");
+    }
+
+    private static String description(SplittableRandom random) {
+        if (random.nextDouble() < WITHOUT_DESCRIPTION_SHARE) {
+            return "";
+        }
+        int count = random.nextInt(2, 6);
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            description.append(i == 0 ? "" : ", ").append(INGREDIENTS[random.nextInt(INGREDIENTS.length)]);
+        }
+        description.setCharAt(0, Character.toUpperCase(description.charAt(0)));
+        return description.append('.').toString();
+    }
+
+    private static String tag(SplittableRandom random) {
+        if (random.nextDouble() >= TAGGED_SHARE) {
+            return "";
+        }
+        return TAGS[skewed(random, TAGS.length)];
+    }
+}
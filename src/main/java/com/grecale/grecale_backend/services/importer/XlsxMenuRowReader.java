@@ -0,0 +1,119 @@
+package com.grecale.grecale_backend.services.importer;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Reads the menu rows of the first sheet of an XLSX workbook with the POI event (SAX) model.
+ * Rows are handed to the consumer as soon as they are parsed, so the workbook is never held in memory.
+ */
+@Component
+public class XlsxMenuRowReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XlsxMenuRowReader.class);
+
+    /**
+     * read the rows of the given workbook stream.
+     * The stream is spooled to a temporary file first: opening a package from a stream would inflate it in memory.
+     *
+     * @param inputStream workbook content, not closed.
+     * @param consumer    receives each valid row.
+     * @return number of rows handed to the consumer.
+     * @throws IOException if the workbook can not be read.
+     */
+    public int read(InputStream inputStream, Consumer<RawMenuRow> consumer) throws IOException {
+        try (ImportFile workbook = ImportFile.spool(inputStream, ".xlsx")) {
+            return read(workbook.path(), consumer);
+        }
+    }
+
+    /**
+     * read the rows of the given workbook file.
+     *
+     * @param workbook workbook path.
+     * @param consumer receives each valid row.
+     * @return number of rows handed to the consumer.
+     * @throws IOException if the workbook can not be read.
+     */
+    public int read(Path workbook, Consumer<RawMenuRow> consumer) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(workbook.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                LOGGER.warn("Menu data workbook '{}' does not contain a first sheet", workbook);
+                return 0;
+            }
+
+            RowHandler rowHandler = new RowHandler(consumer);
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), new ReadOnlySharedStringsTable(pkg),
+                    rowHandler, new DataFormatter(Locale.ROOT), false));
+            try (InputStream sheet = sheets.next()) {
+                parser.parse(new InputSource(sheet));
+            }
+            return rowHandler.emitted;
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException ex) {
+            throw new IOException("Unable to parse menu workbook " + workbook, ex);
+        }
+    }
+
+    /**
+     * collects the cells of the current row and emits it once complete.
+     */
+    private static final class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<RawMenuRow> consumer;
+        private final String[] cells = new String[MenuRowCells.COLUMN_COUNT];
+        private int currentColumn;
+        private int emitted;
+
+        private RowHandler(Consumer<RawMenuRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(cells, "");
+            currentColumn = -1;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // the reference is optional in the file format, cells then follow each other
+            currentColumn = cellReference == null ? currentColumn + 1 : new CellReference(cellReference).getCol();
+            if (currentColumn < MenuRowCells.COLUMN_COUNT) {
+                cells[currentColumn] = formattedValue == null ? "" : formattedValue.trim();
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (MenuRowCells.emit(rowNum, cells, consumer)) {
+                emitted++;
+            }
+        }
+    }
+}
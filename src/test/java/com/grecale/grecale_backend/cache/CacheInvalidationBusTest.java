@@ -0,0 +1,92 @@
+package com.grecale.grecale_backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grecale.grecale_backend.Domain.dto.ItemDto;
+import com.grecale.grecale_backend.Domain.entities.ChangeLogEntry;
+import com.grecale.grecale_backend.Domain.entities.Item;
+import com.grecale.grecale_backend.Enum.ChangeType;
+import com.grecale.grecale_backend.repository.ChangeLogRepository;
+import com.grecale.grecale_backend.services.ItemService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that local changes are written to the change log, and that the changes of another node evict the caches.
+ */
+@SpringBootTest(properties = {
+        "grecale.cache-bus.transport=change-log",
+        "spring.datasource.url=jdbc:h2:mem:cache-bus;DB_CLOSE_DELAY=-1;MODE=MySQL"})
+@ActiveProfiles("openapi")
+class CacheInvalidationBusTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ChangeLogTransport transport;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void localChangesAreLoggedAndNotReceivedBack() throws Exception {
+        Long id = createItem();
+        long entries = changeLogRepository.count();
+        itemService.patch(id, objectMapper.readTree("{\"price\": 3}"), null);
+        assertEquals(entries + 1, changeLogRepository.count());
+
+        long version = dataVersion.current();
+        transport.poll();
+        assertEquals(version, dataVersion.current());
+    }
+
+    @Test
+    void remoteChangesEvictTheCaches() throws Exception {
+        Long id = createItem();
+        ItemDto cached = itemService.findById(id);
+        assertSame(cached, itemService.findById(id));
+        assertTrue(entityManagerFactory.getCache().contains(Item.class, id));
+
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setEntityType(Item.class.getSimpleName());
+        entry.setEntityId(id.toString());
+        entry.setChangeType(ChangeType.UPDATED);
+        entry.setOrigin("other-node");
+        changeLogRepository.save(entry);
+
+        long version = dataVersion.current();
+        transport.poll();
+        transport.poll();
+
+        assertEquals(version + 1, dataVersion.current());
+        assertFalse(entityManagerFactory.getCache().contains(Item.class, id));
+        assertNotSame(cached, itemService.findById(id));
+    }
+
+    private Long createItem() throws Exception {
+        ItemDto dto = new ItemDto();
+        dto.setName("Bus item");
+        dto.setPrice(BigDecimal.ONE);
+        return itemService.add(dto).getId();
+    }
+}
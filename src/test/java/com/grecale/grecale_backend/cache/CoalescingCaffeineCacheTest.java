@@ -0,0 +1,66 @@
+package com.grecale.grecale_backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that the synchronized loads of the cache run once per key, on virtual threads too, and are then cached.
+ */
+class CoalescingCaffeineCacheTest {
+
+    private static final int CALLERS = 32;
+
+    private final CoalescingCaffeineCache cache = new CoalescingCaffeineCache("test", Caffeine.newBuilder().build(), true,
+            new SingleFlight(new SimpleMeterRegistry()));
+
+    @Test
+    void concurrentLoadsRunOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> cache.get("key", () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "value";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals("value", cache.get("key", () -> "reloaded"));
+    }
+
+    @Test
+    void nullsAreCachedAndFailuresAreNot() {
+        assertNull(cache.get("null", () -> null));
+        assertNull(cache.get("null", () -> "reloaded"));
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("failing", () -> {
+            throw new IOException("load failed");
+        }));
+        assertEquals("retried", cache.get("failing", () -> "retried"));
+    }
+}
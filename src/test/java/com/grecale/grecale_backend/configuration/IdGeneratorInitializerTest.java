@@ -0,0 +1,51 @@
+package com.grecale.grecale_backend.configuration;
+
+import com.grecale.grecale_backend.Domain.dto.CategoryDto;
+import com.grecale.grecale_backend.Domain.dto.ItemDto;
+import com.grecale.grecale_backend.services.CategoryService;
+import com.grecale.grecale_backend.services.ItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the ids generated after startup follow the rows stored with explicit ids.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:id-generator;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "spring.jpa.defer-datasource-initialization=true",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.data-locations=classpath:sql/explicit-ids.sql"})
+@ActiveProfiles("openapi")
+class IdGeneratorInitializerTest {
+
+    @Autowired
+    private IdGeneratorInitializer idGeneratorInitializer;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Test
+    void generatedIdsFollowTheStoredOnes() throws Exception {
+        // a second run, as another instance starting later, leaves the raised segments alone
+        idGeneratorInitializer.afterSingletonsInstantiated();
+
+        CategoryDto category = new CategoryDto();
+        category.setCode("generated");
+        category.setName("Generated");
+        assertTrue(categoryService.add(category).getId() > 5001);
+
+        ItemDto item = new ItemDto();
+        item.setName("Generated item");
+        item.setPrice(BigDecimal.ONE);
+        assertTrue(itemService.add(item).getId() > 7000);
+    }
+}
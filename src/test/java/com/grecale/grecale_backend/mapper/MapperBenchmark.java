@@ -0,0 +1,100 @@
+package com.grecale.grecale_backend.mapper;
+
+import com.grecale.grecale_backend.Domain.dto.CategoryDto;
+import com.grecale.grecale_backend.Domain.dto.ItemDto;
+import com.grecale.grecale_backend.Domain.entities.Category;
+import com.grecale.grecale_backend.Domain.entities.Item;
+import com.grecale.grecale_backend.Domain.entities.ItemTag;
+import com.grecale.grecale_backend.Domain.entities.Subcategory;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generated mappers with the reflective ModelMapper path they replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final SubcategoryMapper subcategoryMapper = new SubcategoryMapperImpl();
+    private final CategoryMapper categoryMapper = new CategoryMapperImpl(subcategoryMapper);
+    private final ItemMapper itemMapper = new ItemMapperImpl(categoryMapper);
+
+    private Category category;
+    private Item item;
+
+    @Setup
+    public void setUp() {
+        category = new Category();
+        category.setId(1L);
+        category.setCode("cibo");
+        category.setName("Cibo");
+        for (int s = 0; s < 4; s++) {
+            Subcategory subcategory = new Subcategory();
+            subcategory.setId(UUID.randomUUID());
+            subcategory.setSlug("cibo-" + s);
+            subcategory.setName("Sub " + s);
+            subcategory.setPosition(s + 1);
+            subcategory.setCategory(category);
+            for (int i = 0; i < 10; i++) {
+                Item linked = new Item();
+                linked.setId((long) (s * 10 + i));
+                subcategory.getItems().add(linked);
+            }
+            category.getSubcategories().add(subcategory);
+        }
+
+        item = new Item();
+        item.setId(42L);
+        item.setName("Tagliere di crudo");
+        item.setDescription("Prosciutto crudo di Parma.");
+        item.setPrice(new BigDecimal("9.00"));
+        item.setTag(new ItemTag("senza glutine", "menu-tag-default"));
+        item.setCategory(category);
+    }
+
+    @Benchmark
+    public CategoryDto categoryModelMapper() {
+        return modelMapper.map(category, CategoryDto.class);
+    }
+
+    @Benchmark
+    public CategoryDto categoryGenerated() {
+        return categoryMapper.toDto(category);
+    }
+
+    @Benchmark
+    public ItemDto itemModelMapper() {
+        return modelMapper.map(item, ItemDto.class);
+    }
+
+    @Benchmark
+    public ItemDto itemGenerated() {
+        return itemMapper.toDto(item);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,59 @@
+package com.grecale.grecale_backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Checks that the CRUD operations are timed and their SQL statements counted, by entity type and operation.
+ */
+@SpringBootTest(properties = "grecale.metrics.request-statistics-header=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("openapi")
+class ApiMetricsInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void operationsAreMeasured() throws Exception {
+        MockHttpServletResponse created = mockMvc.perform(post("/api/v1/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Metered item\", \"price\": 4.5}"))
+                .andReturn().getResponse();
+        assertEquals(201, created.getStatus());
+        assertTrue(Integer.parseInt(created.getHeader(RequestStatisticsHeaderAdvice.STATEMENTS_HEADER)) > 0);
+
+        String id = created.getContentAsString().replaceAll(".*\"id\":(\\d+).*", "$1");
+        MockHttpServletResponse found = mockMvc.perform(get("/api/v1/items/" + id)).andReturn().getResponse();
+        assertEquals(200, found.getStatus());
+        assertNotNull(found.getHeader(RequestStatisticsHeaderAdvice.ENTITIES_LOADED_HEADER));
+
+        assertEquals(1, meterRegistry.get(ApiMetricsInterceptor.REQUESTS)
+                .tags("entity", "item", "operation", "add", "outcome", "SUCCESSFUL").timer().count());
+        assertTrue(meterRegistry.get(ApiMetricsInterceptor.STATEMENTS)
+                .tags("entity", "item", "operation", "findById").summary().count() > 0);
+    }
+
+    @Test
+    void otherHandlersAreNotMeasured() throws Exception {
+        mockMvc.perform(get("/api/v1/menu")).andReturn();
+
+        assertTrue(meterRegistry.find(ApiMetricsInterceptor.REQUESTS).tag("operation", "getMenu").timers().isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package com.grecale.grecale_backend.repository;
+
+import com.grecale.grecale_backend.Domain.entities.Category;
+import com.grecale.grecale_backend.Domain.entities.Item;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that entities, their collections and the hinted queries are read from the second-level cache
+ * once loaded, and that committed changes are seen.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("openapi")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SubcategoryRepository subcategoryRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void repeatedReadsDoNotHitTheDatabase() {
+        Category category = categoryRepository.findAll().iterator().next();
+        readTree(category.getId(), category.getCode());
+
+        statistics.clear();
+        readTree(category.getId(), category.getCode());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        assertEquals(2, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void committedChangesAreRead() {
+        Item item = itemRepository.findAll().iterator().next();
+
+        transactionTemplate.executeWithoutResult(status ->
+                itemRepository.findById(item.getId()).orElseThrow().setPrice(new BigDecimal("42.00")));
+
+        statistics.clear();
+        assertEquals(0, new BigDecimal("42.00").compareTo(itemRepository.findById(item.getId()).orElseThrow().getPrice()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private void readTree(Long categoryId, String code) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Category category = categoryRepository.findById(categoryId).orElseThrow();
+            category.getSubcategories().forEach(subcategory -> subcategory.getItems().size());
+            category.getItems().size();
+            categoryRepository.findByCode(code).orElseThrow();
+            subcategoryRepository.findByCategoryId(categoryId);
+        });
+    }
+}
@@ -0,0 +1,152 @@
+package com.grecale.grecale_backend.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.grecale.grecale_backend.services.importer.MenuImportService;
+import com.grecale.grecale_backend.services.importer.SyntheticMenuSource;
+import com.grecale.grecale_backend.support.LoadGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a concurrent read/write mix against the running application and checks the p99 latency and error rate
+ * of each operation against the budgets of load-budgets.properties, or of the file given by -Dload.budgets.
+ * Excluded from the default build, run with {@code mvn -Pload test}, tuned with -Dload.concurrency (16),
+ * -Dload.warmup and -Dload.duration (seconds, 5 and 20), -Dload.write-ratio (0.05) and -Dload.items (synthetic menu
+ * size, the seeded menu when 0). The percentile distributions are written to target/load.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1;MODE=MySQL")
+@ActiveProfiles("openapi")
+class ApiLoadTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiLoadTest.class);
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load");
+    private static final int READ_WEIGHT = 100;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MenuImportService menuImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void apiStaysWithinItsLatencyBudgets() throws Exception {
+        int items = Integer.getInteger("load.items", 0);
+        if (items > 0) {
+            menuImportService.importMenu(new SyntheticMenuSource(Math.max(1, items / 4_000), 8, items, 42));
+        }
+        List<Long> itemIds = new ArrayList<>();
+        objectMapper.readTree(get("/api/v1/items/page?size=500").body()).get("content")
+                .forEach(item -> itemIds.add(item.get("id").asLong()));
+        List<String> subcategoryIds = new ArrayList<>();
+        objectMapper.readTree(get("/api/v1/subcategories").body())
+                .forEach(subcategory -> subcategoryIds.add(subcategory.get("id").asText()));
+
+        double writeRatio = Double.parseDouble(System.getProperty("load.write-ratio", "0.05"));
+        int writeWeight = (int) Math.round(READ_WEIGHT * writeRatio / (1 - writeRatio) / 2);
+        LoadGenerator generator = new LoadGenerator()
+                .operation("category.all", 25, () -> status("GET", "/api/v1/category/all", null))
+                .operation("items.all", 25, () -> status("GET", "/api/v1/items/all", null))
+                .operation("items.byId", 20, () -> status("GET", "/api/v1/items/" + any(itemIds), null))
+                .operation("subcategories.all", 15, () -> status("GET", "/api/v1/subcategories", null))
+                .operation("subcategories.byId", 15, () -> status("GET", "/api/v1/subcategories/" + any(subcategoryIds), null))
+                .operation("items.patch", writeWeight, () -> status("PATCH", "/api/v1/items/" + any(itemIds),
+                        "{\"price\": " + ThreadLocalRandom.current().nextInt(1, 50) + "}"))
+                .operation("subcategories.update", writeWeight, () -> updateSubcategory(any(subcategoryIds)));
+
+        Map<String, LoadGenerator.Result> results = generator.run(Integer.getInteger("load.concurrency", 16),
+                Duration.ofSeconds(Integer.getInteger("load.warmup", 5)),
+                Duration.ofSeconds(Integer.getInteger("load.duration", 20)));
+
+        List<String> exceeded = checkBudgets(results);
+        assertTrue(exceeded.isEmpty(), () -> "Budgets exceeded: " + exceeded);
+    }
+
+    private List<String> checkBudgets(Map<String, LoadGenerator.Result> results) throws IOException {
+        String budgetsFile = System.getProperty("load.budgets");
+        Properties budgets = PropertiesLoaderUtils.loadProperties(budgetsFile == null
+                ? new ClassPathResource("load-budgets.properties") : new FileSystemResource(budgetsFile));
+        Files.createDirectories(REPORT_DIRECTORY);
+        List<String> exceeded = new ArrayList<>();
+        for (LoadGenerator.Result result : results.values()) {
+            long count = result.histogram().getTotalCount();
+            LOGGER.info(String.format(Locale.ROOT, "%-21s %8.1f req/s  p50 %7.2f ms  p99 %7.2f ms  p99.9 %7.2f ms  max %7.2f ms  %d errors",
+                    result.name(), result.throughput(), result.percentileMillis(50), result.percentileMillis(99),
+                    result.percentileMillis(99.9), result.histogram().getMaxValue() / 1_000.0, result.errors()));
+            try (PrintStream out = new PrintStream(Files.newOutputStream(REPORT_DIRECTORY.resolve(result.name() + ".hgrm")))) {
+                result.histogram().outputPercentileDistribution(out, 1_000.0);
+            }
+
+            double p99Budget = Double.parseDouble(budgets.getProperty(result.name() + ".p99-ms", "Infinity"));
+            if (result.percentileMillis(99) > p99Budget) {
+                exceeded.add(String.format(Locale.ROOT, "%s p99 %.2f ms > %.2f ms", result.name(), result.percentileMillis(99), p99Budget));
+            }
+            double errorBudget = Double.parseDouble(budgets.getProperty(result.name() + ".max-error-rate", "0"));
+            if (count > 0 && (double) result.errors() / count > errorBudget) {
+                exceeded.add(String.format(Locale.ROOT, "%s %d errors in %d calls", result.name(), result.errors(), count));
+            }
+        }
+        return exceeded;
+    }
+
+    private int updateSubcategory(String id) throws IOException, InterruptedException {
+        JsonNode subcategory = objectMapper.readTree(get("/api/v1/subcategories/" + id).body());
+        ((ObjectNode) subcategory).put("name", "Selezione " + ThreadLocalRandom.current().nextInt(1_000));
+        return status("PUT", "/api/v1/subcategories/" + id, objectMapper.writeValueAsString(subcategory));
+    }
+
+    private int status(String method, String path, String json) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (json == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json").method(method, HttpRequest.BodyPublishers.ofString(json));
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static <T> T any(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
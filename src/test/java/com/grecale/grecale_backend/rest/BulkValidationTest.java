@@ -0,0 +1,52 @@
+package com.grecale.grecale_backend.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Checks that each element of a bulk request is validated, an invalid one being reported without failing the others.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("openapi")
+class BulkValidationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void invalidElementIsReportedWithItsFields() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(post("/api/v1/items/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": \"Valid item\", \"price\": 2},"
+                                + " {\"name\": \" \"},"
+                                + " {\"name\": \"Other valid item\", \"price\": 3}]"))
+                .andReturn().getResponse();
+
+        assertEquals(207, response.getStatus());
+        JsonNode results = objectMapper.readTree(response.getContentAsString());
+        assertEquals(3, results.size());
+        assertEquals(201, results.get(0).get("status").asInt());
+        assertEquals("Valid item", results.get(0).at("/entry/name").asText());
+        assertEquals(400, results.get(1).get("status").asInt());
+        assertTrue(results.get(1).get("error").asText().contains("name: "));
+        assertTrue(results.get(1).get("error").asText().contains("price: "));
+        assertEquals(201, results.get(2).get("status").asInt());
+        assertEquals("Other valid item", results.get(2).at("/entry/name").asText());
+    }
+}
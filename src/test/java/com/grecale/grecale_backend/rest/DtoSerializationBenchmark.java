@@ -0,0 +1,82 @@
+package com.grecale.grecale_backend.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.grecale.grecale_backend.Domain.dto.CategoryDto;
+import com.grecale.grecale_backend.Domain.dto.ItemDto;
+import com.grecale.grecale_backend.mapper.CategoryMapper;
+import com.grecale.grecale_backend.mapper.CategoryMapperImpl;
+import com.grecale.grecale_backend.mapper.ItemMapper;
+import com.grecale.grecale_backend.mapper.ItemMapperImpl;
+import com.grecale.grecale_backend.mapper.SubcategoryMapperImpl;
+import com.grecale.grecale_backend.support.SyntheticMenu;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the JSON serialization of the DTO lists returned by the item and category endpoints,
+ * with an object mapper built the way Spring builds the one of the message converters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoSerializationBenchmark {
+
+    private final CategoryMapper categoryMapper = new CategoryMapperImpl(new SubcategoryMapperImpl());
+    private final ItemMapper itemMapper = new ItemMapperImpl(categoryMapper);
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private ObjectWriter itemsWriter;
+    private ObjectWriter categoriesWriter;
+    private List<ItemDto> leanItems;
+    private List<ItemDto> expandedItems;
+    private List<CategoryDto> categories;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        itemsWriter = objectMapper.writerFor(new TypeReference<List<ItemDto>>() { });
+        categoriesWriter = objectMapper.writerFor(new TypeReference<List<CategoryDto>>() { });
+        leanItems = SyntheticMenu.items(size).stream().map(itemMapper::toLeanDto).toList();
+        expandedItems = SyntheticMenu.items(size).stream().map(itemMapper::toDto).toList();
+        categories = IntStream.rangeClosed(1, size)
+                .mapToObj(id -> categoryMapper.toDto(SyntheticMenu.category(id, 4, 10)))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] leanItems() throws JsonProcessingException {
+        return itemsWriter.writeValueAsBytes(leanItems);
+    }
+
+    @Benchmark
+    public byte[] expandedItems() throws JsonProcessingException {
+        return itemsWriter.writeValueAsBytes(expandedItems);
+    }
+
+    @Benchmark
+    public byte[] categories() throws JsonProcessingException {
+        return categoriesWriter.writeValueAsBytes(categories);
+    }
+}
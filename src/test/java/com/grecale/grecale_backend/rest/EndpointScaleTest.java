@@ -0,0 +1,137 @@
+package com.grecale.grecale_backend.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grecale.grecale_backend.repository.SubcategoryRepository;
+import com.grecale.grecale_backend.services.importer.MenuImportResult;
+import com.grecale.grecale_backend.services.importer.MenuImportService;
+import com.grecale.grecale_backend.services.importer.SyntheticMenuSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Seeds synthetic menus of growing size and records the latency of the main CRUD endpoints on each one:
+ * the first call after the import, then the percentiles of the following ones.
+ * Excluded from the default build, run with {@code mvn -Pscale test [-Dscale.sizes=1000,10000] [-Dscale.requests=50]};
+ * the figures are appended to target/scale-report.csv.
+ */
+@Tag("scale")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:scale;DB_CLOSE_DELAY=-1;MODE=MySQL")
+@ActiveProfiles("openapi")
+class EndpointScaleTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EndpointScaleTest.class);
+
+    private static final Path REPORT = Path.of("target", "scale-report.csv");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MenuImportService menuImportService;
+
+    @Autowired
+    private SubcategoryRepository subcategoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void endpointLatencyGrowsWithTheMenu() throws Exception {
+        int requests = Integer.getInteger("scale.requests", 50);
+        if (Files.notExists(REPORT)) {
+            Files.createDirectories(REPORT.getParent());
+            Files.writeString(REPORT, "items,endpoint,first_ms,p50_ms,p95_ms,max_ms\n");
+        }
+        for (int items : sizes()) {
+            MenuImportResult result = menuImportService.importMenu(new SyntheticMenuSource(Math.max(1, items / 4_000), 8, items, 42));
+            LOGGER.info("Synthetic menu of {} items imported in {} ms", items, result.elapsedMillis());
+
+            for (Map.Entry<String, String> endpoint : endpoints().entrySet()) {
+                double first = call(endpoint.getValue());
+                double[] latencies = new double[requests];
+                for (int i = 0; i < requests; i++) {
+                    latencies[i] = call(endpoint.getValue());
+                }
+                Arrays.sort(latencies);
+                String line = String.format(Locale.ROOT, "%d,%s,%.2f,%.2f,%.2f,%.2f%n", items, endpoint.getKey(), first,
+                        percentile(latencies, 0.50), percentile(latencies, 0.95), latencies[latencies.length - 1]);
+                LOGGER.info("{} items, {}: first {} ms, p50 {} ms, p95 {} ms", items, endpoint.getKey(),
+                        String.format(Locale.ROOT, "%.2f", first), String.format(Locale.ROOT, "%.2f", percentile(latencies, 0.50)),
+                        String.format(Locale.ROOT, "%.2f", percentile(latencies, 0.95)));
+                Files.writeString(REPORT, line, StandardOpenOption.APPEND);
+            }
+        }
+    }
+
+    private Map<String, String> endpoints() throws Exception {
+        long itemId = objectMapper.readTree(get("/api/v1/items/page?size=1").body()).at("/content/0/id").asLong();
+        long categoryId = objectMapper.readTree(get("/api/v1/category/page?size=1").body()).at("/content/0/id").asLong();
+        String subcategoryId = subcategoryRepository.findAll(PageRequest.of(0, 1)).getContent().get(0).getId().toString();
+
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        endpoints.put("items.findById", "/api/v1/items/" + itemId);
+        endpoints.put("items.findAll", "/api/v1/items/all");
+        endpoints.put("items.findPage", "/api/v1/items/page?size=50");
+        endpoints.put("category.findById", "/api/v1/category/" + categoryId);
+        endpoints.put("category.findAll", "/api/v1/category/all");
+        endpoints.put("subcategories.findById", "/api/v1/subcategories/" + subcategoryId);
+        endpoints.put("subcategories.findAll", "/api/v1/subcategories");
+        return endpoints;
+    }
+
+    /**
+     * GET the given path, reading the whole body.
+     * @return latency in milliseconds.
+     */
+    private double call(String path) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = get(path);
+        double latency = (System.nanoTime() - start) / 1_000_000.0;
+        assertEquals(200, response.statusCode(), path);
+        return latency;
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static List<Integer> sizes() {
+        List<Integer> sizes = new ArrayList<>();
+        for (String size : System.getProperty("scale.sizes", "1000,10000,50000").split(",")) {
+            sizes.add(Integer.parseInt(size.trim()));
+        }
+        return sizes;
+    }
+
+    private static double percentile(double[] sorted, double quantile) {
+        return sorted[(int) Math.ceil(quantile * sorted.length) - 1];
+    }
+}
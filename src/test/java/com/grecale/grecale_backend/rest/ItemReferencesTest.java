@@ -0,0 +1,64 @@
+package com.grecale.grecale_backend.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grecale.grecale_backend.Domain.entities.Category;
+import com.grecale.grecale_backend.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Checks that the category referenced by id in a written item is linked to the stored one.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("openapi")
+class ItemReferencesTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void createdItemEmbedsItsCategory() throws Exception {
+        Category category = categoryRepository.findAll().iterator().next();
+
+        MockHttpServletResponse response = mockMvc.perform(post("/api/v1/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Referencing item\", \"price\": 4, \"categoryId\": "
+                                + category.getId() + "}"))
+                .andReturn().getResponse();
+
+        assertEquals(201, response.getStatus());
+        JsonNode created = objectMapper.readTree(response.getContentAsString());
+        assertEquals((long) category.getId(), created.get("categoryId").asLong());
+        assertFalse(created.at("/category/name").isMissingNode());
+        assertEquals(category.getName(), created.at("/category/name").asText());
+        assertEquals(category.getCode(), created.at("/category/code").asText());
+    }
+
+    @Test
+    void unknownCategoryIsNotFound() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(post("/api/v1/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Orphan item\", \"price\": 4, \"categoryId\": 999999}"))
+                .andReturn().getResponse();
+
+        assertEquals(404, response.getStatus());
+    }
+}
@@ -0,0 +1,121 @@
+package com.grecale.grecale_backend.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grecale.grecale_backend.Domain.dto.ItemDto;
+import com.grecale.grecale_backend.event.MenuChangeBroadcaster;
+import com.grecale.grecale_backend.services.ItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the committed changes are pushed to the open menu change streams,
+ * and that a client reconnecting at another version than the current one is told to reload.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:menu-events;DB_CLOSE_DELAY=-1;MODE=MySQL")
+@ActiveProfiles("openapi")
+class MenuEventsTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void committedChangesArePushed() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            try (Stream<String> lines = open(null)) {
+                Iterator<String> events = lines.iterator();
+                Map<String, String> connected = next(events);
+                assertEquals(MenuChangeBroadcaster.VERSION_EVENT, connected.get("event"));
+                long version = Long.parseLong(connected.get("id"));
+
+                ItemDto dto = new ItemDto();
+                dto.setName("Pushed item");
+                dto.setPrice(BigDecimal.ONE);
+                Long id = itemService.add(dto).getId();
+
+                Map<String, String> change = next(events);
+                assertEquals(MenuChangeBroadcaster.CHANGE_EVENT, change.get("event"));
+                JsonNode data = objectMapper.readTree(change.get("data"));
+                assertEquals("Item", data.get("entityType").asText());
+                assertEquals(id.longValue(), data.get("id").asLong());
+                assertEquals("CREATED", data.get("changeType").asText());
+                assertTrue(data.get("version").asLong() > version);
+                assertEquals(data.get("version").asText(), change.get("id"));
+            }
+        });
+    }
+
+    @Test
+    void staleReconnectionIsToldToReload() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            ItemDto dto = new ItemDto();
+            dto.setName("Missed item");
+            dto.setPrice(BigDecimal.ONE);
+            itemService.add(dto);
+
+            try (Stream<String> lines = open("1")) {
+                assertEquals(MenuChangeBroadcaster.RESYNC_EVENT, next(lines.iterator()).get("event"));
+            }
+            // an id ahead of this node, e.g. received from another node or before a restart
+            try (Stream<String> lines = open(Long.toString(Long.MAX_VALUE))) {
+                assertEquals(MenuChangeBroadcaster.RESYNC_EVENT, next(lines.iterator()).get("event"));
+            }
+        });
+    }
+
+    private Stream<String> open(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/menu/events"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        return response.body();
+    }
+
+    private static Map<String, String> next(Iterator<String> lines) {
+        Map<String, String> fields = new HashMap<>();
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (line.isEmpty()) {
+                if (!fields.isEmpty()) {
+                    return fields;
+                }
+            } else if (!line.startsWith(":")) {
+                int colon = line.indexOf(':');
+                fields.put(line.substring(0, colon), line.substring(colon + 1));
+            }
+        }
+        return fields;
+    }
+}
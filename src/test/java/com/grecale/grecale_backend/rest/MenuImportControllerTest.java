@@ -0,0 +1,87 @@
+package com.grecale.grecale_backend.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grecale.grecale_backend.Enum.ImportStatus;
+import com.grecale.grecale_backend.services.importer.MenuImportJobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+
+/**
+ * Checks that an uploaded menu is imported in the background, its job being polled at the returned location.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:menu-imports;DB_CLOSE_DELAY=-1;MODE=MySQL")
+@AutoConfigureMockMvc
+@ActiveProfiles("openapi")
+class MenuImportControllerTest {
+
+    private static final String IMPORTS = "/api/v1/admin/menu-imports";
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoSpyBean
+    private MenuImportJobService menuImportJobService;
+
+    @Test
+    void submittedImportIsPolledUntilCompleted() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(multipart(IMPORTS).file(csv("menu.csv")))
+                .andReturn().getResponse();
+
+        assertEquals(202, response.getStatus());
+        String location = response.getHeader("Location");
+        assertNotNull(location);
+
+        JsonNode job = objectMapper.readTree(response.getContentAsString());
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!ImportStatus.COMPLETED.name().equals(job.get("status").asText())) {
+            assertTrue(System.currentTimeMillis() < deadline, "import completed in time, last status " + job.get("status"));
+            assertNotEquals(ImportStatus.FAILED.name(), job.get("status").asText(), job.path("error").asText());
+            Thread.sleep(50);
+            job = objectMapper.readTree(mockMvc.perform(get(location)).andReturn().getResponse().getContentAsString());
+        }
+        assertEquals(2, job.get("rowsRead").asInt());
+    }
+
+    @Test
+    void unsupportedExtensionIsRejected() throws Exception {
+        assertEquals(400, mockMvc.perform(multipart(IMPORTS).file(csv("menu.txt"))).andReturn().getResponse().getStatus());
+    }
+
+    @Test
+    void fullQueueIsUnavailable() throws Exception {
+        doThrow(new RejectedExecutionException("queue full")).when(menuImportJobService).submit(any(), any());
+
+        assertEquals(503, mockMvc.perform(multipart(IMPORTS).file(csv("menu.csv"))).andReturn().getResponse().getStatus());
+    }
+
+    private static MockMultipartFile csv(String fileName) {
+        String content = "Categoria,Sottocategoria,Nome,Prezzo,Descrizione,Tag\n"
+                + "Pizze,Rosse,Margherita,8,,\n"
+                + "Pizze,Bianche,Bianca,7,,\n";
+        return new MockMultipartFile("file", fileName, "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,101 @@
+package com.grecale.grecale_backend.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grecale.grecale_backend.GrecaleBackendApplication;
+import com.grecale.grecale_backend.support.LoadGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the same read-mostly mix against the application served by platform threads, then by virtual threads,
+ * and reports the throughput and latencies of both side by side in target/load/threading-modes.csv.
+ * Run with {@code mvn -Pload test -Dtest=ThreadingModeLoadTest}, tuned with -Dload.concurrency (256, beyond the
+ * 200 platform request threads), -Dload.warmup and -Dload.duration (seconds, 5 and 20).
+ * The database defaults to H2; pass -Dspring.datasource.url (and credentials) to measure against MySQL.
+ */
+@Tag("load")
+class ThreadingModeLoadTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThreadingModeLoadTest.class);
+
+    private static final Path REPORT = Path.of("target", "load", "threading-modes.csv");
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Map<String, Map<String, LoadGenerator.Result>> resultsByMode = new LinkedHashMap<>();
+        for (String mode : List.of("platform", "virtual")) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(GrecaleBackendApplication.class)
+                    .profiles("openapi")
+                    .properties("server.port=0",
+                            "spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                            "spring.datasource.url=jdbc:h2:mem:threading-" + mode + ";DB_CLOSE_DELAY=-1;MODE=MySQL")
+                    .run()) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                resultsByMode.put(mode, run("http://localhost:" + port));
+            }
+        }
+
+        Files.createDirectories(REPORT.getParent());
+        StringBuilder report = new StringBuilder("mode,operation,throughput,p50_ms,p99_ms,max_ms,errors\n");
+        resultsByMode.forEach((mode, results) -> results.values().forEach(result -> {
+            String line = String.format(Locale.ROOT, "%s,%s,%.1f,%.2f,%.2f,%.2f,%d", mode, result.name(), result.throughput(),
+                    result.percentileMillis(50), result.percentileMillis(99), result.histogram().getMaxValue() / 1_000.0,
+                    result.errors());
+            LOGGER.info(line);
+            report.append(line).append('\n');
+        }));
+        Files.writeString(REPORT, report);
+
+        resultsByMode.values().forEach(results -> results.values()
+                .forEach(result -> assertEquals(0, result.errors(), result.name() + " failed")));
+    }
+
+    private Map<String, LoadGenerator.Result> run(String baseUrl) throws Exception {
+        List<Long> itemIds = new ArrayList<>();
+        objectMapper.readTree(get(baseUrl + "/api/v1/items/page?size=500").body()).get("content")
+                .forEach(item -> itemIds.add(item.get("id").asLong()));
+
+        return new LoadGenerator()
+                .operation("category.all", 25, () -> status(baseUrl + "/api/v1/category/all"))
+                .operation("items.all", 25, () -> status(baseUrl + "/api/v1/items/all"))
+                .operation("items.byId", 30, () -> status(baseUrl + "/api/v1/items/"
+                        + itemIds.get(ThreadLocalRandom.current().nextInt(itemIds.size()))))
+                .operation("subcategories.all", 20, () -> status(baseUrl + "/api/v1/subcategories"))
+                .run(Integer.getInteger("load.concurrency", 256),
+                        Duration.ofSeconds(Integer.getInteger("load.warmup", 5)),
+                        Duration.ofSeconds(Integer.getInteger("load.duration", 20)));
+    }
+
+    private int status(String url) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpResponse<String> get(String url) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
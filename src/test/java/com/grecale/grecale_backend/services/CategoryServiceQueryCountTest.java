@@ -0,0 +1,64 @@
+package com.grecale.grecale_backend.services;
+
+import com.grecale.grecale_backend.Domain.dto.CategoryDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that reading the category tree costs a fixed number of statements, whatever its size.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("openapi")
+class CategoryServiceQueryCountTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void resetStatistics() {
+        // the reads below must hit the database, not the service cache
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllLoadsTheTreeInTwoStatements() {
+        List<CategoryDto> categories = categoryService.findAll();
+
+        assertFalse(categories.isEmpty());
+        assertTrue(categories.stream().anyMatch(category -> category.getSubcategories().stream()
+                .anyMatch(subcategory -> !subcategory.getItemIds().isEmpty())));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByIdLoadsOneTreeInTwoStatements() {
+        Long id = categoryService.findAll().get(0).getId();
+        statistics.clear();
+
+        assertEquals(id, categoryService.findById(id).getId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
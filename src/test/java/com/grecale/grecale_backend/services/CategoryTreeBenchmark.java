@@ -0,0 +1,63 @@
+package com.grecale.grecale_backend.services;
+
+import com.grecale.grecale_backend.Domain.dto.CategoryDto;
+import com.grecale.grecale_backend.Domain.dto.ItemDto;
+import com.grecale.grecale_backend.Domain.entities.Category;
+import com.grecale.grecale_backend.mapper.CategoryMapper;
+import com.grecale.grecale_backend.mapper.CategoryMapperImpl;
+import com.grecale.grecale_backend.mapper.ItemMapperImpl;
+import com.grecale.grecale_backend.mapper.SubcategoryMapperImpl;
+import com.grecale.grecale_backend.support.SyntheticMenu;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CategoryService#convertToDto} on category trees of growing width,
+ * and the item conversion embedding such a tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryTreeBenchmark {
+
+    private final CategoryMapper categoryMapper = new CategoryMapperImpl(new SubcategoryMapperImpl());
+    private final ItemService itemService = new ItemService(null, null, null, new ItemMapperImpl(categoryMapper));
+    private final CategoryService categoryService = new CategoryService(null, null, categoryMapper);
+
+    @Param({"4", "64"})
+    public int subcategories;
+
+    @Param({"10", "200"})
+    public int itemsPerSubcategory;
+
+    private Category category;
+
+    @Setup
+    public void setUp() {
+        category = SyntheticMenu.category(1, subcategories, itemsPerSubcategory);
+    }
+
+    @Benchmark
+    public CategoryDto category() {
+        return categoryService.convertToDto(category);
+    }
+
+    @Benchmark
+    public ItemDto itemWithCategory() {
+        return itemService.convertToDto(category.getItems().get(0));
+    }
+}
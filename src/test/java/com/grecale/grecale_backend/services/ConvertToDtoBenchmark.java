@@ -0,0 +1,85 @@
+package com.grecale.grecale_backend.services;
+
+import com.grecale.grecale_backend.Domain.entities.Category;
+import com.grecale.grecale_backend.Domain.entities.Item;
+import com.grecale.grecale_backend.mapper.CategoryMapper;
+import com.grecale.grecale_backend.mapper.CategoryMapperImpl;
+import com.grecale.grecale_backend.mapper.ItemMapperImpl;
+import com.grecale.grecale_backend.mapper.SubcategoryMapperImpl;
+import com.grecale.grecale_backend.support.SyntheticMenu;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the entity to DTO conversion of the CRUD services on lists of growing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvertToDtoBenchmark {
+
+    private final SubcategoryMapperImpl subcategoryMapper = new SubcategoryMapperImpl();
+    private final CategoryMapper categoryMapper = new CategoryMapperImpl(subcategoryMapper);
+    private final ItemService itemService = new ItemService(null, null, null, new ItemMapperImpl(categoryMapper));
+    private final CategoryService categoryService = new CategoryService(null, null, categoryMapper);
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private List<Item> items;
+    private List<Category> categories;
+
+    @Setup
+    public void setUp() {
+        items = SyntheticMenu.items(size);
+        categories = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            categories.add(SyntheticMenu.category(i + 1, 4, 10));
+        }
+    }
+
+    @Benchmark
+    public void items(Blackhole blackhole) {
+        for (Item item : items) {
+            blackhole.consume(itemService.convertToDto(item));
+        }
+    }
+
+    @Benchmark
+    public void itemsLean(Blackhole blackhole) {
+        for (Item item : items) {
+            blackhole.consume(itemService.convertToListDto(item));
+        }
+    }
+
+    @Benchmark
+    public void categories(Blackhole blackhole) {
+        for (Category category : categories) {
+            blackhole.consume(categoryService.convertToDto(category));
+        }
+    }
+
+    @Benchmark
+    public void subcategories(Blackhole blackhole) {
+        for (Category category : categories) {
+            category.getSubcategories().forEach(subcategory -> blackhole.consume(subcategoryMapper.toDto(subcategory)));
+        }
+    }
+}
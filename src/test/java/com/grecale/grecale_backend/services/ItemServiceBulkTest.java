@@ -0,0 +1,105 @@
+package com.grecale.grecale_backend.services;
+
+import com.grecale.grecale_backend.Domain.dto.BulkResult;
+import com.grecale.grecale_backend.Domain.dto.CategoryDto;
+import com.grecale.grecale_backend.Domain.dto.ItemDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that bulk requests are written in JDBC batches and report each element, failures included.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("openapi")
+class ItemServiceBulkTest {
+
+    private static final int COUNT = 200;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void bulkRequestsAreBatched() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        List<BulkResult<ItemDto>> created = itemService.addAll(IntStream.range(0, COUNT)
+                .mapToObj(index -> item("bulk " + index))
+                .toList());
+        assertTrue(created.stream().allMatch(result -> result.status() == 201));
+        assertTrue(statistics.getPrepareStatementCount() < COUNT / 10, "inserts are batched");
+
+        List<ItemDto> changes = new ArrayList<>(created.stream().map(BulkResult::entry).toList());
+        changes.forEach(item -> item.setPrice(BigDecimal.TEN));
+        changes.get(0).setVersion(changes.get(0).getVersion() + 1);
+        statistics.clear();
+        List<BulkResult<ItemDto>> updated = itemService.updateAll(changes);
+        assertEquals(412, updated.get(0).status());
+        assertTrue(updated.subList(1, COUNT).stream().allMatch(result -> result.entry().getVersion() == 1));
+        assertTrue(statistics.getPrepareStatementCount() < COUNT / 10, "updates are batched");
+
+        List<Long> ids = new ArrayList<>(created.stream().map(BulkResult::id).toList());
+        ids.add(-1L);
+        statistics.clear();
+        List<BulkResult<ItemDto>> deleted = itemService.deleteAll(ids);
+        assertEquals(COUNT, deleted.stream().filter(BulkResult::isSuccess).count());
+        assertEquals(404, deleted.get(COUNT).status());
+        assertTrue(statistics.getPrepareStatementCount() < COUNT / 10, "deletes are batched");
+    }
+
+    @Test
+    void constraintFailuresAreReportedPerElement() {
+        List<BulkResult<CategoryDto>> categories = categoryService.addAll(List.of(
+                category("bulk-held"), category("bulk-empty")));
+        Long held = categories.get(0).id();
+
+        ItemDto orphan = item("bulk orphan");
+        orphan.setCategoryId(-1L);
+        ItemDto child = item("bulk child");
+        child.setCategoryId(held);
+        List<BulkResult<ItemDto>> created = itemService.addAll(List.of(orphan, child));
+        assertEquals(404, created.get(0).status());
+        assertEquals(201, created.get(1).status());
+
+        List<BulkResult<CategoryDto>> deleted = categoryService.deleteAll(List.of(held, categories.get(1).id()));
+        assertEquals(409, deleted.get(0).status());
+        assertEquals(200, deleted.get(1).status());
+        assertNotNull(categoryService.findById(held));
+        assertNull(categoryService.findById(categories.get(1).id()));
+    }
+
+    private static CategoryDto category(String code) {
+        CategoryDto category = new CategoryDto();
+        category.setCode(code);
+        category.setName(code);
+        return category;
+    }
+
+    private static ItemDto item(String name) {
+        ItemDto item = new ItemDto();
+        item.setName(name);
+        item.setPrice(BigDecimal.ONE);
+        return item;
+    }
+}
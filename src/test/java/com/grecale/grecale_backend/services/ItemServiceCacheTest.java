@@ -0,0 +1,43 @@
+package com.grecale.grecale_backend.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grecale.grecale_backend.Domain.dto.ItemDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Checks that reads are served from the cache until a change is committed.
+ */
+@SpringBootTest
+@ActiveProfiles("openapi")
+class ItemServiceCacheTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void readsAreCachedUntilChanged() throws Exception {
+        ItemDto dto = new ItemDto();
+        dto.setName("Cached item");
+        dto.setPrice(BigDecimal.ONE);
+        Long id = itemService.add(dto).getId();
+
+        ItemDto first = itemService.findById(id);
+        assertSame(first, itemService.findById(id));
+
+        itemService.patch(id, objectMapper.readTree("{\"price\": 2}"), null);
+        ItemDto changed = itemService.findById(id);
+        assertEquals(first.getVersion() + 1, changed.getVersion());
+        assertEquals(0, BigDecimal.valueOf(2).compareTo(changed.getPrice()));
+    }
+}
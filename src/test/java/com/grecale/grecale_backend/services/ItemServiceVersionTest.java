@@ -0,0 +1,107 @@
+package com.grecale.grecale_backend.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grecale.grecale_backend.Domain.dto.ItemDto;
+import com.grecale.grecale_backend.Domain.dto.ItemTagDto;
+import com.grecale.grecale_backend.exception.PreconditionFailedException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that updates and patches are written, a patch in a single update and merging nested objects,
+ * and that stale versions are rejected.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("openapi")
+class ItemServiceVersionTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private ItemDto item;
+
+    @BeforeEach
+    void createItem() throws Exception {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        ItemDto dto = new ItemDto();
+        dto.setName("Versioned item");
+        dto.setDescription("unchanged by patches");
+        dto.setPrice(new BigDecimal("4.00"));
+        item = itemService.add(dto);
+    }
+
+    @Test
+    void patchWritesOnlyTheSentFieldsInOneRoundTrip() throws Exception {
+        statistics.clear();
+        ItemDto patched = itemService.patch(item.getId(), objectMapper.readTree("{\"price\": 5.5}"), item.getVersion());
+
+        // the item itself is read from the second-level cache, only the update reaches the database
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, new BigDecimal("5.5").compareTo(patched.getPrice()));
+        assertEquals("unchanged by patches", patched.getDescription());
+        assertEquals(item.getVersion() + 1, patched.getVersion());
+    }
+
+    @Test
+    void updateWritesTheNewState() throws Exception {
+        item.setName("Updated item");
+        ItemDto updated = itemService.update(item.getId(), item);
+
+        assertEquals("Updated item", updated.getName());
+        assertEquals(item.getVersion() + 1, updated.getVersion());
+        assertEquals("Updated item", itemService.findById(item.getId()).getName());
+    }
+
+    @Test
+    void staleVersionIsRejected() throws Exception {
+        itemService.patch(item.getId(), objectMapper.readTree("{\"name\": \"Renamed\"}"), null);
+
+        assertThrows(PreconditionFailedException.class,
+                () -> itemService.patch(item.getId(), objectMapper.readTree("{\"price\": 6}"), item.getVersion()));
+        item.setName("Overwritten");
+        assertThrows(PreconditionFailedException.class, () -> itemService.update(item.getId(), item));
+    }
+
+    @Test
+    void nestedObjectsAreMerged() throws Exception {
+        ItemTagDto tag = new ItemTagDto();
+        tag.setLabel("New");
+        tag.setCssClass("tag-new");
+        item.setTag(tag);
+        item = itemService.update(item.getId(), item);
+
+        ItemDto patched = itemService.patch(item.getId(), objectMapper.readTree("{\"tag\": {\"label\": \"Hot\"}}"), null);
+        assertEquals("Hot", patched.getTag().getLabel());
+        assertEquals("tag-new", patched.getTag().getCssClass());
+
+        patched = itemService.patch(item.getId(), objectMapper.readTree("{\"description\": null}"), null);
+        assertNull(patched.getDescription());
+        assertEquals("Hot", patched.getTag().getLabel());
+    }
+
+    @Test
+    void emptyPatchKeepsTheVersion() throws Exception {
+        ItemDto patched = itemService.patch(item.getId(), objectMapper.readTree("{}"), null);
+
+        assertEquals(item.getVersion(), patched.getVersion());
+    }
+}
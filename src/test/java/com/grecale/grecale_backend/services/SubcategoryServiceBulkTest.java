@@ -0,0 +1,69 @@
+package com.grecale.grecale_backend.services;
+
+import com.grecale.grecale_backend.Domain.dto.SubcategoryDto;
+import com.grecale.grecale_backend.Domain.entities.Item;
+import com.grecale.grecale_backend.repository.ItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that linking items to a subcategory, and deleting it, cost the same statements whatever the item count.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("openapi")
+class SubcategoryServiceBulkTest {
+
+    @Autowired
+    private SubcategoryService subcategoryService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Long> itemIds;
+
+    @BeforeEach
+    void loadItemIds() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        itemIds = StreamSupport.stream(itemRepository.findAll().spliterator(), false)
+                .map(Item::getId)
+                .toList();
+    }
+
+    @Test
+    void statementCountDoesNotDependOnItemCount() throws Exception {
+        long fewItems = createAndDeleteStatements("bulk-few", itemIds.subList(0, 10));
+        long manyItems = createAndDeleteStatements("bulk-many", itemIds.subList(0, 200));
+
+        assertEquals(fewItems, manyItems);
+        assertEquals(itemIds.size(), itemRepository.count());
+    }
+
+    private long createAndDeleteStatements(String slug, List<Long> linkedIds) throws Exception {
+        SubcategoryDto dto = new SubcategoryDto();
+        dto.setSlug(slug);
+        dto.setName(slug);
+        dto.setCategoryId(itemRepository.findById(linkedIds.get(0)).orElseThrow().getCategory().getId());
+        dto.setItemIds(linkedIds);
+
+        statistics.clear();
+        SubcategoryDto created = subcategoryService.create(dto);
+        assertEquals(linkedIds.size(), created.getItemIds().size());
+        subcategoryService.delete(created.getId());
+        return statistics.getPrepareStatementCount();
+    }
+}
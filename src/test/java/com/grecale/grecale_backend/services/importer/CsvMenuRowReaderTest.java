@@ -0,0 +1,78 @@
+package com.grecale.grecale_backend.services.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the RFC 4180 quoting and the separator detection of the CSV reader.
+ */
+class CsvMenuRowReaderTest {
+
+    private static final String HEADER = "Categoria,Sottocategoria,Nome,Prezzo,Descrizione,Tag\n";
+
+    private final CsvMenuRowReader reader = new CsvMenuRowReader();
+
+    @Test
+    void quotedSeparatorIsPartOfTheValue() throws IOException {
+        List<RawMenuRow> rows = read(HEADER + "Pizze,Rosse,\"Margherita, large\",8.50,,\n");
+
+        assertEquals(1, rows.size());
+        assertEquals("Margherita, large", rows.get(0).name());
+        assertEquals("8.50", rows.get(0).price());
+    }
+
+    @Test
+    void doubledQuotesAreOneQuote() throws IOException {
+        List<RawMenuRow> rows = read(HEADER + "Pizze,Rosse,\"The \"\"special\"\"\",9,,\n");
+
+        assertEquals("The \"special\"", rows.get(0).name());
+    }
+
+    @Test
+    void quotedValueMaySpanLines() throws IOException {
+        List<RawMenuRow> rows = read(HEADER + "Pizze,Rosse,Diavola,9,\"Spicy salami\non two lines\",Hot\n"
+                + "Pizze,Bianche,Bianca,7,,\n");
+
+        assertEquals(2, rows.size());
+        assertEquals("Spicy salami\non two lines", rows.get(0).description());
+        assertEquals("Hot", rows.get(0).tagLabel());
+        assertEquals("Bianca", rows.get(1).name());
+    }
+
+    @Test
+    void byteOrderMarkIsSkipped() throws IOException {
+        List<RawMenuRow> rows = read("\uFEFF" + HEADER + "Pizze,Rosse,Marinara,6,,\n");
+
+        assertEquals(1, rows.size());
+        assertEquals("Pizze", rows.get(0).category());
+    }
+
+    @Test
+    void semicolonHeaderSetsTheSeparator() throws IOException {
+        List<RawMenuRow> rows = read("Categoria;Sottocategoria;Nome;Prezzo;Descrizione;Tag\n"
+                + "Pizze;Rosse;Capricciosa;10,50;Ham, mushrooms;\n");
+
+        assertEquals(1, rows.size());
+        assertEquals("10,50", rows.get(0).price());
+        assertEquals("Ham, mushrooms", rows.get(0).description());
+    }
+
+    @Test
+    void unterminatedQuoteFails() {
+        assertThrows(IOException.class, () -> read(HEADER + "Pizze,Rosse,\"Quattro stagioni,11,,\n"));
+    }
+
+    private List<RawMenuRow> read(String content) throws IOException {
+        List<RawMenuRow> rows = new ArrayList<>();
+        reader.read(new BufferedReader(new StringReader(content)), rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,71 @@
+package com.grecale.grecale_backend.services.importer;
+
+import com.grecale.grecale_backend.Enum.MenuFileFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that an exported menu imported back changes nothing, in each file format.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:menu-export;DB_CLOSE_DELAY=-1;MODE=MySQL")
+@ActiveProfiles("openapi")
+class MenuExportRoundTripTest {
+
+    private static final List<RawMenuRow> MENU = List.of(
+            new RawMenuRow("Pizze", "Rosse", "Margherita", "8.50", "Tomato, mozzarella", "Classic"),
+            new RawMenuRow("Pizze", "Rosse", "The \"special\"", "12", "Spicy salami\non two lines", ""),
+            new RawMenuRow("Pizze", "Bianche", "Bianca", "7", "", "Veggie"),
+            new RawMenuRow("Bevande", "", "Acqua", "1.5", "", ""));
+
+    @Autowired
+    private MenuImportService menuImportService;
+
+    @Autowired
+    private MenuExportService menuExportService;
+
+    @Autowired
+    private XlsxMenuRowReader xlsxMenuRowReader;
+
+    @Autowired
+    private CsvMenuRowReader csvMenuRowReader;
+
+    @Test
+    void xlsxExportImportsUnchanged() throws IOException {
+        assertRoundTripUnchanged(MenuFileFormat.XLSX);
+    }
+
+    @Test
+    void csvExportImportsUnchanged() throws IOException {
+        assertRoundTripUnchanged(MenuFileFormat.CSV);
+    }
+
+    private void assertRoundTripUnchanged(MenuFileFormat format) throws IOException {
+        menuImportService.importMenu(consumer -> {
+            MENU.forEach(consumer);
+            return MENU.size();
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        menuExportService.export(format, out);
+
+        try (ImportFile file = ImportFile.spool(new ByteArrayInputStream(out.toByteArray()), format.getExtension())) {
+            MenuImportResult result = menuImportService.importMenu(consumer -> switch (format) {
+                case XLSX -> xlsxMenuRowReader.read(file.path(), consumer);
+                case CSV -> csvMenuRowReader.read(file.path(), consumer);
+            });
+
+            assertEquals(MENU.size(), result.rows());
+            assertEquals(0, result.inserted());
+            assertEquals(0, result.updated());
+            assertEquals(0, result.deleted());
+        }
+    }
+}
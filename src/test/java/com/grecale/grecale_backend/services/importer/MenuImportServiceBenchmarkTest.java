@@ -0,0 +1,110 @@
+package com.grecale.grecale_backend.services.importer;
+
+import com.grecale.grecale_backend.repository.ItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Imports a synthetic menu on H2 and reports the throughput, checking that inserts are sent as JDBC batches
+ * and that importing the same rows again writes nothing. Also checks that the deletions of an import go through the entity lifecycle.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:menu-import-benchmark;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@ActiveProfiles("openapi")
+class MenuImportServiceBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MenuImportServiceBenchmarkTest.class);
+
+    private static final int ROWS = 20_000;
+    private static final int CATEGORIES = 8;
+    private static final int SUBCATEGORIES_PER_CATEGORY = 25;
+
+    @Autowired
+    private MenuImportService menuImportService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void importsSyntheticMenuWithBatchedInserts() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MenuImportResult result = menuImportService.importMenu(MenuImportServiceBenchmarkTest::syntheticRows);
+
+        LOGGER.info("Imported {} rows in {} ms ({} rows/s), {} statements prepared",
+                result.rows(), result.elapsedMillis(), result.rowsPerSecond(), statistics.getPrepareStatementCount());
+        assertEquals(ROWS + CATEGORIES + CATEGORIES * SUBCATEGORIES_PER_CATEGORY, result.inserted());
+        assertEquals(ROWS, itemRepository.count());
+        // one statement per row would mean the inserts are not batched
+        assertTrue(statistics.getPrepareStatementCount() < ROWS / 10);
+
+        statistics.clear();
+        MenuImportResult reimport = menuImportService.importMenu(MenuImportServiceBenchmarkTest::syntheticRows);
+
+        LOGGER.info("Imported the same {} rows again in {} ms ({} rows/s), {} statements prepared",
+                reimport.rows(), reimport.elapsedMillis(), reimport.rowsPerSecond(), statistics.getPrepareStatementCount());
+        assertFalse(reimport.changed());
+        assertEquals(0, statistics.getEntityInsertCount() + statistics.getEntityUpdateCount() + statistics.getEntityDeleteCount());
+        assertEquals(ROWS, itemRepository.count());
+    }
+
+    @Test
+    void skipsSourceWhoseContentWasAlreadyImported() throws Exception {
+        MenuRowSource source = consumer -> {
+            consumer.accept(new RawMenuRow("Hashed", "", "Hashed item", "1", "", ""));
+            return 1;
+        };
+        assertFalse(menuImportService.importMenu("hashed", "hash-1", source).skipped());
+        assertTrue(menuImportService.importMenu("hashed", "hash-1", consumer -> {
+            throw new AssertionError("unchanged source must not be read");
+        }).skipped());
+    }
+
+    @Test
+    void deletionsAreEntityRemovals() throws Exception {
+        menuImportService.importMenu(consumer -> {
+            consumer.accept(new RawMenuRow("Removed", "", "Kept item", "1", "", ""));
+            consumer.accept(new RawMenuRow("Removed", "", "Dropped item", "1", "", ""));
+            return 2;
+        });
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MenuImportResult result = menuImportService.importMenu(consumer -> {
+            consumer.accept(new RawMenuRow("Removed", "", "Kept item", "1", "", ""));
+            return 1;
+        });
+
+        // bulk statements would bypass the entity listeners and Envers, and count no entity deletion
+        assertEquals(1, result.deleted());
+        assertEquals(1, statistics.getEntityDeleteCount());
+    }
+
+    private static int syntheticRows(Consumer<RawMenuRow> consumer) {
+        for (int i = 0; i < ROWS; i++) {
+            int category = i % CATEGORIES;
+            int subcategory = i / CATEGORIES % SUBCATEGORIES_PER_CATEGORY;
+            consumer.accept(new RawMenuRow("Category " + category, "Subcategory " + subcategory, "Item " + i,
+                    "€ " + (i % 50) + ",50", "Synthetic item " + i, i % 7 == 0 ? "New" : ""));
+        }
+        return ROWS;
+    }
+}
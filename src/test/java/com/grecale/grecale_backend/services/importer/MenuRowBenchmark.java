@@ -0,0 +1,129 @@
+package com.grecale.grecale_backend.services.importer;
+
+import com.grecale.grecale_backend.support.SyntheticMenu;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing done while seeding or importing a menu: cell normalization,
+ * and the reading of workbook and csv files of growing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuRowBenchmark {
+
+    private static final String[] PRICES = {"9", "€ 12,50", "14.00 €", "N/A", "", "3,5", "EUR 120"};
+    private static final String[] LABELS = {"Antipasti", "Primi Piatti", "Caffè & Dolci", "Birre alla spina", "Vini – Rossi"};
+
+    private final XlsxMenuRowReader xlsxReader = new XlsxMenuRowReader();
+    private final CsvMenuRowReader csvReader = new CsvMenuRowReader();
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    private Path workbook;
+    private Path csv;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<RawMenuRow> menu = SyntheticMenu.rows(rows);
+        workbook = Files.createTempFile("menu-benchmark", ".xlsx");
+        csv = Files.createTempFile("menu-benchmark", ".csv");
+        writeWorkbook(menu, workbook);
+        writeCsv(menu, csv);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(workbook);
+        Files.deleteIfExists(csv);
+    }
+
+    @Benchmark
+    public void parsePrice(Blackhole blackhole) {
+        for (String price : PRICES) {
+            blackhole.consume(MenuRowNormalizer.parsePrice(price));
+        }
+    }
+
+    @Benchmark
+    public void slugify(Blackhole blackhole) {
+        for (String label : LABELS) {
+            blackhole.consume(MenuRowNormalizer.slugify(label));
+        }
+    }
+
+    @Benchmark
+    public int readWorkbook(Blackhole blackhole) throws IOException {
+        return xlsxReader.read(workbook, blackhole::consume);
+    }
+
+    @Benchmark
+    public int readCsv(Blackhole blackhole) throws IOException {
+        return csvReader.read(csv, blackhole::consume);
+    }
+
+    private static void writeWorkbook(List<RawMenuRow> menu, Path target) throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(); OutputStream out = Files.newOutputStream(target)) {
+            Sheet sheet = workbook.createSheet("Menu");
+            writeRow(sheet.createRow(0), MenuRowCells.HEADERS);
+            int rowNum = 1;
+            for (RawMenuRow row : menu) {
+                writeRow(sheet.createRow(rowNum++), cells(row));
+            }
+            workbook.write(out);
+        }
+    }
+
+    private static void writeRow(Row row, String[] values) {
+        for (int column = 0; column < values.length; column++) {
+            row.createCell(column).setCellValue(values[column] == null ? "" : values[column]);
+        }
+    }
+
+    private static void writeCsv(List<RawMenuRow> menu, Path target) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            writer.write(String.join(";", MenuRowCells.HEADERS));
+            writer.newLine();
+            for (RawMenuRow row : menu) {
+                String[] cells = cells(row);
+                for (int i = 0; i < cells.length; i++) {
+                    cells[i] = cells[i] == null ? "" : '"' + cells[i].replace("\"", "\"\"") + '"';
+                }
+                writer.write(String.join(";", cells));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static String[] cells(RawMenuRow row) {
+        return new String[]{row.category(), row.subcategory(), row.name(), row.price(), row.description(), row.tagLabel()};
+    }
+}
@@ -0,0 +1,151 @@
+package com.grecale.grecale_backend.support;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives a weighted mix of operations from concurrent workers, each one calling the next operation as soon as
+ * the previous one returned, and records their latencies in HDR histograms, in microseconds.
+ * Being a closed model, it measures the latency under the given concurrency, not under a given arrival rate.
+ */
+public final class LoadGenerator {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final List<Operation> operations = new ArrayList<>();
+    private int totalWeight;
+
+    /**
+     * add an operation to the mix.
+     * @param name operation name, in reports.
+     * @param weight share of the calls, relative to the other operations.
+     * @param call the operation, returning an HTTP status: 4xx and 5xx count as errors.
+     * @return this generator.
+     */
+    public LoadGenerator operation(String name, int weight, Call call) {
+        if (weight > 0) {
+            operations.add(new Operation(name, weight, call, new Recorder(SIGNIFICANT_DIGITS), new LongAdder()));
+            totalWeight += weight;
+        }
+        return this;
+    }
+
+    /**
+     * run the mix, only recording once the warmup is over.
+     * @param concurrency number of workers.
+     * @param warmup duration before recording.
+     * @param duration recorded duration.
+     * @return results by operation name, in the order the operations were added.
+     * @throws Exception if a worker failed outside of an operation.
+     */
+    public Map<String, Result> run(int concurrency, Duration warmup, Duration duration) throws Exception {
+        long recordFrom = System.nanoTime() + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> work(recordFrom, end)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Operation operation : operations) {
+            results.put(operation.name(), new Result(operation.name(), operation.recorder().getIntervalHistogram(),
+                    operation.errors().sum(), duration));
+        }
+        return results;
+    }
+
+    private void work(long recordFrom, long end) {
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Operation operation = pick();
+            boolean failed;
+            try {
+                failed = operation.call().execute() >= 400;
+            } catch (Exception e) {
+                failed = true;
+            }
+            long done = System.nanoTime();
+            if (now >= recordFrom) {
+                operation.recorder().recordValue((done - now) / 1_000);
+                if (failed) {
+                    operation.errors().increment();
+                }
+            }
+        }
+    }
+
+    private Operation pick() {
+        int draw = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            draw -= operation.weight();
+            if (draw < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("No operation to run");
+    }
+
+    /**
+     * one call of an operation.
+     */
+    @FunctionalInterface
+    public interface Call {
+
+        /**
+         * run the call.
+         * @return HTTP status.
+         * @throws Exception if the call failed.
+         */
+        int execute() throws Exception;
+    }
+
+    private record Operation(String name, int weight, Call call, Recorder recorder, LongAdder errors) {
+    }
+
+    /**
+     * recorded figures of one operation.
+     *
+     * @param name      operation name.
+     * @param histogram latencies, in microseconds.
+     * @param errors    number of failed calls.
+     * @param duration  recorded duration.
+     */
+    public record Result(String name, Histogram histogram, long errors, Duration duration) {
+
+        /**
+         * latency at the given percentile.
+         * @param percentile between 0 and 100.
+         * @return latency in milliseconds.
+         */
+        public double percentileMillis(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1_000.0;
+        }
+
+        /**
+         * calls per second.
+         * @return throughput.
+         */
+        public double throughput() {
+            return histogram.getTotalCount() * 1_000.0 / duration.toMillis();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.grecale.grecale_backend.support;
+
+import com.grecale.grecale_backend.Domain.entities.Category;
+import com.grecale.grecale_backend.Domain.entities.Item;
+import com.grecale.grecale_backend.Domain.entities.ItemTag;
+import com.grecale.grecale_backend.Domain.entities.Subcategory;
+import com.grecale.grecale_backend.services.importer.RawMenuRow;
+import com.grecale.grecale_backend.services.importer.SyntheticMenuSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Detached menu entities and raw rows of any size, for the benchmarks.
+ * The same arguments always give the same data.
+ */
+public final class SyntheticMenu {
+
+    private static final String[] TAGS = {"", "", "", "Novità", "Senza glutine", "Vegano", "Piccante"};
+    private static final int ROW_CATEGORIES = 8;
+    private static final int ROW_SUBCATEGORIES_PER_CATEGORY = 25;
+    private static final long ROW_SEED = 42;
+
+    private SyntheticMenu() {
+    }
+
+    /**
+     * a category holding the given number of subcategories, each one with its items.
+     * @param id category id.
+     * @param subcategories number of subcategories.
+     * @param itemsPerSubcategory number of items of each subcategory.
+     * @return category graph.
+     */
+    public static Category category(long id, int subcategories, int itemsPerSubcategory) {
+        Category category = new Category();
+        category.setId(id);
+        category.setCode("categoria-" + id);
+        category.setName("Categoria " + id);
+        category.setIconUrl("/icons/categoria-" + id + ".svg");
+        for (int s = 0; s < subcategories; s++) {
+            Subcategory subcategory = new Subcategory();
+            subcategory.setId(new UUID(id, s));
+            subcategory.setSlug(category.getCode() + "-" + s);
+            subcategory.setName("Sottocategoria " + s);
+            subcategory.setPosition(s + 1);
+            subcategory.setCategory(category);
+            for (int i = 0; i < itemsPerSubcategory; i++) {
+                Item item = item(id * 1_000_000 + (long) s * itemsPerSubcategory + i);
+                item.setCategory(category);
+                item.setSubcategory(subcategory);
+                subcategory.getItems().add(item);
+                category.getItems().add(item);
+            }
+            category.getSubcategories().add(subcategory);
+        }
+        return category;
+    }
+
+    /**
+     * the given number of items, spread over categories of 5 subcategories.
+     * @param count number of items.
+     * @return items.
+     */
+    public static List<Item> items(int count) {
+        List<Item> items = new ArrayList<>(count);
+        Category category = null;
+        for (int i = 0; i < count; i++) {
+            if (i % 50 == 0) {
+                category = category(i / 50 + 1, 5, 0);
+            }
+            Item item = item(i + 1);
+            item.setCategory(category);
+            item.setSubcategory(category.getSubcategories().get(i % 5));
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * an item with a description, a price and, for some of them, a tag.
+     * @param id item id.
+     * @return item.
+     */
+    public static Item item(long id) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName("Piatto " + id);
+        item.setDescription(description(id));
+        item.setPrice(BigDecimal.valueOf(350 + id % 40 * 50, 2));
+        String tag = TAGS[(int) (id % TAGS.length)];
+        if (!tag.isEmpty()) {
+            item.setTag(new ItemTag(tag, "menu-tag-default"));
+        }
+        return item;
+    }
+
+    /**
+     * the given number of raw rows, as read from an import file, drawn by {@link SyntheticMenuSource}.
+     * @param count number of rows.
+     * @return rows.
+     */
+    public static List<RawMenuRow> rows(int count) {
+        List<RawMenuRow> rows = new ArrayList<>(count);
+        try {
+            new SyntheticMenuSource(ROW_CATEGORIES, ROW_SUBCATEGORIES_PER_CATEGORY, count, ROW_SEED).read(rows::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    private static String description(long id) {
+        // a third of the items have no description, the others one to four sentences
+        int sentences = (int) (id % 6) - 1;
+        if (sentences <= 0) {
+            return null;
+        }
+        return "Ingredienti di stagione, preparati al momento. ".repeat(sentences).trim();
+    }
+}
@@ -0,0 +1,4 @@
+-- rows written with explicit ids, as the former increment generator did
+insert into category (id, version, created_by, created_date, code, name) values (5000, 0, 'System', current_timestamp, 'explicit-5000', 'Explicit 5000');
+insert into category (id, version, created_by, created_date, code, name) values (5001, 0, 'System', current_timestamp, 'explicit-5001', 'Explicit 5001');
+insert into item (id, version, created_by, created_date, name, price, category_name) values (7000, 0, 'System', current_timestamp, 'Explicit 7000', 1.00, 5000);